@@ -0,0 +1,24 @@
+package com.elk.common.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+// Active only when spring.threads.virtual.enabled=true on a JDK with virtual threads
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "elk.virtual-threads.pinning", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(VirtualThreadPinningProperties.class)
+public class VirtualThreadPinningAutoConfiguration {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadPinningProperties properties,
+                                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties.threshold(), properties.stackDepth(), meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,97 @@
+package com.elk.common.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread, typically while blocking
+ * inside a synchronized block (JDBC drivers, H2, connection pools, logging appenders).
+ * Listens to the JFR jdk.VirtualThreadPinned event in-process, records every pin in the
+ * jvm.threads.virtual.pinned timer and logs the stack of each distinct pinning site once.
+ */
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    // Bounds the set of logged sites so a pathological workload can not grow it forever
+    private static final int MAX_REPORTED_SITES = 1000;
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Timer pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, int stackDepth, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+        this.pinned = meterRegistry == null ? null : Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads blocked while pinned to their carrier thread")
+                .register(meterRegistry);
+    }
+
+    public synchronized void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        if (pinned != null) {
+            pinned.record(duration);
+        }
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String site = pinningSite(frames);
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}\n{}", duration.toMillis(), site, format(frames));
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", duration.toMillis(), site);
+        }
+    }
+
+    // First frame outside the JDK: the application or library code that holds the monitor
+    private static String pinningSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.get(0));
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        StringBuilder trace = new StringBuilder();
+        for (int i = 0; i < Math.min(stackDepth, frames.size()); i++) {
+            trace.append("\tat ").append(describe(frames.get(i))).append('\n');
+        }
+        return trace.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + '.' + frame.getMethod().getName() + ':' + frame.getLineNumber();
+    }
+}
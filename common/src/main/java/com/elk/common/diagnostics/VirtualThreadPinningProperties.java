@@ -0,0 +1,15 @@
+package com.elk.common.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "elk.virtual-threads.pinning")
+public record VirtualThreadPinningProperties(
+        @DefaultValue("true") boolean enabled,
+        // Pins shorter than this are not recorded (JFR event threshold)
+        @DefaultValue("20ms") Duration threshold,
+        // Frames logged for each newly seen pinning site
+        @DefaultValue("12") int stackDepth
+) { }
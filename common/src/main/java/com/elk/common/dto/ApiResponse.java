@@ -0,0 +1,61 @@
+package com.elk.common.dto;
+
+import com.elk.common.serializer.ApiResponseSerializer;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Success envelope returned by every service. Written by {@link ApiResponseSerializer}, which
+ * streams the envelope fields around the payload; read back by Feign clients through the
+ * {@link JsonCreator} constructor.
+ */
+@JsonSerialize(using = ApiResponseSerializer.class)
+public final class ApiResponse<T> {
+
+    private final LocalDateTime timestamp;
+    private final int status;
+    private final String message;
+    private final String path;
+    private final T data;
+
+    @JsonCreator
+    public ApiResponse(@JsonProperty("timestamp") LocalDateTime timestamp,
+                       @JsonProperty("status") int status,
+                       @JsonProperty("message") String message,
+                       @JsonProperty("path") String path,
+                       @JsonProperty("data") T data) {
+        this.timestamp = timestamp;
+        this.status = status;
+        this.message = message;
+        this.path = path;
+        this.data = data;
+    }
+
+    public static <T> ApiResponse<T> of(HttpStatus status, String message, T data, String path) {
+        return new ApiResponse<>(LocalDateTime.now(), status.value(), message, path, data);
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public T getData() {
+        return data;
+    }
+}
@@ -0,0 +1,58 @@
+package com.elk.common.dto;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// Error envelope returned by every service's GlobalExceptionHandler
+public final class ErrorResponse {
+
+    private final LocalDateTime timestamp;
+    private final int status;
+    private final String error;
+    private final String message;
+    private final String path;
+
+    // For validation errors
+    private final Map<String, String> fieldErrors;
+
+    private ErrorResponse(LocalDateTime timestamp, int status, String error, String message,
+                          String path, Map<String, String> fieldErrors) {
+        this.timestamp = timestamp;
+        this.status = status;
+        this.error = error;
+        this.message = message;
+        this.path = path;
+        this.fieldErrors = fieldErrors;
+    }
+
+    public static ErrorResponse of(HttpStatus status, String errorCode, String message,
+                                   String path, Map<String, String> fieldErrors) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), errorCode, message, path, fieldErrors);
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
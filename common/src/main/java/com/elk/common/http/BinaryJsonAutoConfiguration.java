@@ -0,0 +1,61 @@
+package com.elk.common.http;
+
+import com.elk.common.serializer.IsoLocalDateTimeDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Smile and CBOR message converters built from the application's Jackson configuration (spring.jackson.*,
+ * modules), so binary payloads map exactly like JSON ones. Boot puts them in place of the framework's default
+ * Smile/CBOR converters, after the JSON converter, so wildcard and application/json Accept headers keep
+ * getting JSON. Feign clients decode responses through the same converters.
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class, before = HttpMessageConvertersAutoConfiguration.class)
+@ConditionalOnClass({Jackson2ObjectMapperBuilder.class, JavaTimeModule.class})
+public class BinaryJsonAutoConfiguration {
+
+    // Picked up by Boot's Jackson2ObjectMapperBuilder, so the JSON, Smile and CBOR mappers all use it
+    @Bean
+    public Module elkJacksonModule() {
+        return new SimpleModule("elk-common")
+                .addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer());
+    }
+
+    // Jackson2ObjectMapperBuilder is a prototype bean, each converter gets its own builder
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(SmileFactory.class)
+    @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+    static class SmileConverterConfiguration {
+
+        @Bean
+        MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(CBORFactory.class)
+    @ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+    static class CborConverterConfiguration {
+
+        @Bean
+        MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        }
+    }
+}
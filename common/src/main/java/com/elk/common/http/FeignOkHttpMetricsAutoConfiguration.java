@@ -0,0 +1,40 @@
+package com.elk.common.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+// Active when the Feign clients run on the pooled OkHttp transport (spring.cloud.openfeign.okhttp.enabled=true)
+@AutoConfiguration
+@ConditionalOnClass({OkHttpClient.class, MeterRegistry.class})
+@ConditionalOnProperty(prefix = "spring.cloud.openfeign.okhttp", name = "enabled")
+public class FeignOkHttpMetricsAutoConfiguration {
+
+    @Bean
+    public OkHttpConnectionPoolMetrics feignConnectionPoolMetrics(
+            ObjectProvider<ConnectionPool> connectionPool,
+            @Value("${spring.cloud.openfeign.httpclient.max-connections:200}") int maxConnections) {
+        return new OkHttpConnectionPoolMetrics("feign", connectionPool::getIfUnique, maxConnections);
+    }
+
+    // Spring Cloud OpenFeign builds its OkHttpClient from this builder bean, install the reuse listener on it
+    @Bean
+    public static BeanPostProcessor feignOkHttpEventListenerInstaller(ObjectProvider<OkHttpConnectionPoolMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof OkHttpClient.Builder builder) {
+                    builder.eventListenerFactory(metrics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.elk.common.http;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Media types for service-to-service calls. Every service can also answer in Smile and CBOR
+ * (see {@link BinaryJsonAutoConfiguration}); external callers asking for JSON or anything keep getting JSON.
+ */
+public final class InternalMediaTypes {
+
+    public static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final MediaType SMILE = MediaType.valueOf(SMILE_VALUE);
+
+    // Accept header for Feign clients: Smile where the peer supports it, JSON otherwise
+    public static final String SMILE_OR_JSON = SMILE_VALUE + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9";
+
+    private InternalMediaTypes() {
+    }
+}
@@ -0,0 +1,108 @@
+package com.elk.common.http;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.ConnectionPool;
+import okhttp3.EventListener;
+
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Connection pool metrics for the OkHttp client behind the Feign clients.
+ * <ul>
+ *   <li>http.client.pool.connections{state=active|idle}: open connections, active ones carry a call</li>
+ *   <li>http.client.pool.saturation: active connections / max-connections; above 1 the pool can not keep
+ *   all connections alive and the excess is closed after use</li>
+ *   <li>http.client.connections.acquired{reused=true|false}: connections taken for a call, new or from the pool</li>
+ *   <li>http.client.connections.reuse.ratio: share of acquisitions served by an already open connection</li>
+ * </ul>
+ * Reuse is tracked through the {@link EventListener} this class creates per call, so it has to be installed
+ * on the client builder (see {@link FeignOkHttpMetricsAutoConfiguration}).
+ */
+public class OkHttpConnectionPoolMetrics implements MeterBinder, EventListener.Factory {
+
+    private static final String CLIENT_TAG = "client";
+
+    private final String clientName;
+    private final Supplier<ConnectionPool> connectionPool;
+    private final int maxConnections;
+    private final AtomicLong newConnections = new AtomicLong();
+    private final AtomicLong reusedConnections = new AtomicLong();
+
+    public OkHttpConnectionPoolMetrics(String clientName, Supplier<ConnectionPool> connectionPool, int maxConnections) {
+        this.clientName = clientName;
+        this.connectionPool = connectionPool;
+        this.maxConnections = maxConnections;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ConnectionPool pool = connectionPool.get();
+        if (pool != null) {
+            Gauge.builder("http.client.pool.connections", pool, p -> p.connectionCount() - p.idleConnectionCount())
+                    .description("Open pooled connections")
+                    .tag(CLIENT_TAG, clientName)
+                    .tag("state", "active")
+                    .register(registry);
+            Gauge.builder("http.client.pool.connections", pool, ConnectionPool::idleConnectionCount)
+                    .description("Open pooled connections")
+                    .tag(CLIENT_TAG, clientName)
+                    .tag("state", "idle")
+                    .register(registry);
+            Gauge.builder("http.client.pool.saturation", pool,
+                            p -> (double) (p.connectionCount() - p.idleConnectionCount()) / maxConnections)
+                    .description("Active connections relative to the connections the pool keeps alive")
+                    .tag(CLIENT_TAG, clientName)
+                    .register(registry);
+        }
+        FunctionCounter.builder("http.client.connections.acquired", newConnections, AtomicLong::get)
+                .description("Connections acquired for a call")
+                .tag(CLIENT_TAG, clientName)
+                .tag("reused", "false")
+                .register(registry);
+        FunctionCounter.builder("http.client.connections.acquired", reusedConnections, AtomicLong::get)
+                .description("Connections acquired for a call")
+                .tag(CLIENT_TAG, clientName)
+                .tag("reused", "true")
+                .register(registry);
+        Gauge.builder("http.client.connections.reuse.ratio", this, OkHttpConnectionPoolMetrics::reuseRatio)
+                .description("Share of connection acquisitions served from the pool since startup")
+                .tag(CLIENT_TAG, clientName)
+                .register(registry);
+    }
+
+    @Override
+    public EventListener create(Call call) {
+        return new ReuseListener();
+    }
+
+    double reuseRatio() {
+        long reused = reusedConnections.get();
+        long total = reused + newConnections.get();
+        return total == 0 ? Double.NaN : (double) reused / total;
+    }
+
+    // One instance per call: connectStart only fires when the call has to open a new connection
+    private final class ReuseListener extends EventListener {
+
+        private boolean connected;
+
+        @Override
+        public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+            connected = true;
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            (connected ? newConnections : reusedConnections).incrementAndGet();
+            connected = false;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.elk.common.loadbalancer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.util.function.SingletonSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks the cheaper of two randomly chosen instances ("power of two choices"), where the cost of an
+ * instance is its peak-EWMA response time multiplied by its outstanding requests + 1. An instance that
+ * stalls (GC pause, noisy neighbour) is avoided as soon as requests pile up on it, and for about
+ * {@code decay} after its slow responses come back; round-robin would keep sending it a fair share.
+ * <p>
+ * Instances that appear after the first instance list was seen are new registrations, typically cold
+ * JVMs: their cost is divided by a weight that ramps linearly from {@code slowStartMinWeight} to 1 over
+ * {@code slowStart}. Latencies are measured through the load balancer lifecycle callbacks that the
+ * Feign and WebClient integrations invoke around each call.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyAwareLoadBalancer.class);
+
+    // Ramp start of instances that were registered before this client first looked them up
+    private static final long ESTABLISHED = Long.MIN_VALUE;
+
+    private final String serviceId;
+    private final SingletonSupplier<ServiceInstanceListSupplier> instanceListSupplier;
+    private final LongSupplier nanoClock;
+    private final double decayNanos;
+    private final long slowStartNanos;
+    private final double slowStartMinWeight;
+    private final long failurePenaltyNanos;
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    // Last instance list seen, stats are only reconciled when the supplier hands out a different list
+    private volatile List<ServiceInstance> knownInstances;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> instanceListSupplierProvider,
+                                    String serviceId, LatencyAwareLoadBalancerProperties properties) {
+        this(instanceListSupplierProvider, serviceId, properties, System::nanoTime);
+    }
+
+    LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> instanceListSupplierProvider,
+                             String serviceId, LatencyAwareLoadBalancerProperties properties, LongSupplier nanoClock) {
+        this.serviceId = serviceId;
+        this.instanceListSupplier = SingletonSupplier.of(() ->
+                instanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new));
+        this.nanoClock = nanoClock;
+        this.decayNanos = Math.max(1, properties.decay().toNanos());
+        this.slowStartNanos = properties.slowStart().toNanos();
+        this.slowStartMinWeight = properties.slowStartMinWeight();
+        this.failurePenaltyNanos = properties.failurePenalty().toNanos();
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = instanceListSupplier.obtain();
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = choose(instances);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        reconcile(instances);
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        long now = nanoClock.getAsLong();
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(cost(a, now) <= cost(b, now) ? a : b);
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+        // Nothing to do until an instance has been chosen
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        InstanceStats instance = lbResponse.hasServer() ? stats.get(key(lbResponse.getServer())) : null;
+        if (instance == null) {
+            return;
+        }
+        instance.outstanding.incrementAndGet();
+        // Same field the Micrometer load balancer stats use for their timers
+        if (request.getContext() != null) {
+            request.getContext().setRequestStartTime(nanoClock.getAsLong());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        InstanceStats instance = stats.get(key(lbResponse.getServer()));
+        if (instance == null) {
+            // Deregistered while the call was in flight
+            return;
+        }
+        instance.outstanding.updateAndGet(count -> Math.max(0, count - 1));
+        RequestDataContext request = completionContext.getLoadBalancerRequest().getContext();
+        if (request == null) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long latency = now - request.getRequestStartTime();
+        ResponseData response = completionContext.getClientResponse();
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                || (response != null && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError());
+        // A fast failure must not make a broken instance look like the cheapest one
+        instance.observe(failed ? Math.max(latency, failurePenaltyNanos) : latency, now);
+    }
+
+    private double cost(ServiceInstance serviceInstance, long now) {
+        InstanceStats instance = stats.get(key(serviceInstance));
+        if (instance == null) {
+            return 0;
+        }
+        return instance.cost(now) / weight(instance, now);
+    }
+
+    private double weight(InstanceStats instance, long now) {
+        if (instance.rampStart == ESTABLISHED || slowStartNanos <= 0) {
+            return 1;
+        }
+        double progress = (double) (now - instance.rampStart) / slowStartNanos;
+        return progress >= 1 ? 1 : Math.max(slowStartMinWeight, progress);
+    }
+
+    // Adds stats for new instances and drops those of deregistered ones
+    private void reconcile(List<ServiceInstance> instances) {
+        if (instances == knownInstances) {
+            return;
+        }
+        synchronized (this) {
+            if (instances == knownInstances) {
+                return;
+            }
+            long now = nanoClock.getAsLong();
+            boolean initial = knownInstances == null;
+            double seed = averageLatency(now);
+            Set<String> keys = new HashSet<>();
+            for (ServiceInstance instance : instances) {
+                String key = key(instance);
+                keys.add(key);
+                stats.computeIfAbsent(key, k -> {
+                    if (!initial) {
+                        log.info("Instance {} of {} registered, ramping up its traffic over {} ms",
+                                k, serviceId, slowStartNanos / 1_000_000);
+                    }
+                    return new InstanceStats(initial ? ESTABLISHED : now, seed, now);
+                });
+            }
+            stats.keySet().retainAll(keys);
+            knownInstances = instances;
+        }
+    }
+
+    // New instances start from the current average instead of zero, which would make them the cheapest
+    private double averageLatency(long now) {
+        double sum = 0;
+        int measured = 0;
+        for (InstanceStats instance : stats.values()) {
+            double latency = instance.latency(now);
+            if (latency > 0) {
+                sum += latency;
+                measured++;
+            }
+        }
+        return measured == 0 ? 0 : sum / measured;
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    private final class InstanceStats {
+
+        final AtomicInteger outstanding = new AtomicInteger();
+        final long rampStart;
+        private double latency;
+        private long stamp;
+
+        InstanceStats(long rampStart, double latency, long now) {
+            this.rampStart = rampStart;
+            this.latency = latency;
+            this.stamp = now;
+        }
+
+        // Peak EWMA: a slower response is taken as is, faster ones (and idle time) decay towards it
+        synchronized void observe(double sample, long now) {
+            double weight = weight(now);
+            double decayed = latency * weight;
+            latency = sample > decayed ? sample : decayed + sample * (1 - weight);
+            stamp = Math.max(stamp, now);
+        }
+
+        // Read only: choosing an instance must not consume the decay owed to its next response
+        synchronized double latency(long now) {
+            return latency * weight(now);
+        }
+
+        private double weight(long now) {
+            return Math.exp(-Math.max(0, now - stamp) / decayNanos);
+        }
+
+        double cost(long now) {
+            int pending = outstanding.get();
+            double current = latency(now);
+            if (current == 0 && pending > 0) {
+                // No response seen yet but calls in flight, it may be hanging
+                current = failurePenaltyNanos;
+            }
+            return current * (pending + 1);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.elk.common.loadbalancer;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+
+// Active in services that call others through Spring Cloud LoadBalancer (Feign clients, @LoadBalanced WebClient)
+@AutoConfiguration
+@ConditionalOnClass(ReactorServiceInstanceLoadBalancer.class)
+@ConditionalOnProperty(prefix = "elk.loadbalancer.latency-aware", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(LatencyAwareLoadBalancerProperties.class)
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+public class LatencyAwareLoadBalancerAutoConfiguration {
+}
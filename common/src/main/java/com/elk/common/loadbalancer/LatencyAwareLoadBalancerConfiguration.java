@@ -0,0 +1,26 @@
+package com.elk.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Per-client configuration, instantiated in each load balancer child context (one per service id)
+@Configuration(proxyBeanMethods = false)
+public class LatencyAwareLoadBalancerConfiguration {
+
+    // Replaces the round-robin default, and is also picked up as a lifecycle bean to measure each call
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            LatencyAwareLoadBalancerProperties properties) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                serviceId, properties);
+    }
+}
@@ -0,0 +1,19 @@
+package com.elk.common.loadbalancer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "elk.loadbalancer.latency-aware")
+public record LatencyAwareLoadBalancerProperties(
+        @DefaultValue("true") boolean enabled,
+        // Time constant of the latency average: roughly how long one slow response keeps an instance penalised
+        @DefaultValue("10s") Duration decay,
+        // Instances registered after startup ramp up to their full share of traffic over this window (0 disables)
+        @DefaultValue("30s") Duration slowStart,
+        // Weight a new instance starts its ramp at, 1 being an established instance
+        @DefaultValue("0.1") double slowStartMinWeight,
+        // Latency recorded for a failed call or 5xx response
+        @DefaultValue("1s") Duration failurePenalty
+) { }
@@ -0,0 +1,92 @@
+package com.elk.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Amount of money held as a long count of the currency's minor unit (cents for USD), so sums
+ * and line totals are plain long arithmetic with no allocation per operation.
+ * Rounding rules:
+ * <ul>
+ *     <li>{@link #of(BigDecimal)} is exact and throws {@link ArithmeticException} when the amount
+ *     has more decimals than the currency allows;</li>
+ *     <li>{@link #of(BigDecimal, RoundingMode)} rounds explicitly, used for amounts coming from other services;</li>
+ *     <li>arithmetic never rounds and throws {@link ArithmeticException} on overflow.</li>
+ * </ul>
+ * Amounts are stored without a currency column, so everything persisted is in {@link #DEFAULT_CURRENCY}.
+ */
+public record Money(long minorUnits, Currency currency) implements Comparable<Money> {
+
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("USD");
+    public static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("Currency without minor unit: " + currency);
+        }
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, RoundingMode.UNNECESSARY);
+    }
+
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        return of(amount, DEFAULT_CURRENCY, rounding);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency, RoundingMode rounding) {
+        long minorUnits = amount.setScale(currency.getDefaultFractionDigits(), rounding)
+                .unscaledValue()
+                .longValueExact();
+        return new Money(minorUnits, currency);
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, sameCurrency(other).minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, sameCurrency(other).minorUnits), currency);
+    }
+
+    public Money times(long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    // Scale is always the currency's fraction digits, so 10.5 USD is rendered as 10.50
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, sameCurrency(other).minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency.getCurrencyCode();
+    }
+
+    private Money sameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+        return other;
+    }
+}
@@ -0,0 +1,94 @@
+package com.elk.common.serializer;
+
+import com.elk.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes the envelope fields straight to the generator and hands the payload to the regular
+ * serializer for its runtime type, so no intermediate map, tree or bean properties are built.
+ * Field names are pre-encoded once, and the timestamp is formatted into a small char buffer in
+ * the same ISO-8601 form the JavaTimeModule produces (trailing zeros of the fraction removed).
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString PATH = new SerializedString("path");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_TIMESTAMP_LENGTH = 29;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ApiResponseSerializer() {
+        super((Class) ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(TIMESTAMP);
+        writeTimestamp(value.getTimestamp(), gen);
+        gen.writeFieldName(STATUS);
+        gen.writeNumber(value.getStatus());
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(value.getMessage());
+        gen.writeFieldName(PATH);
+        gen.writeString(value.getPath());
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(value.getData(), gen);
+        gen.writeEndObject();
+    }
+
+    static void writeTimestamp(LocalDateTime timestamp, JsonGenerator gen) throws IOException {
+        if (timestamp == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = timestamp.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp));
+            return;
+        }
+        char[] buffer = new char[MAX_TIMESTAMP_LENGTH];
+        int pos = digits(buffer, 0, year, 4);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, timestamp.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, timestamp.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = digits(buffer, pos, timestamp.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, timestamp.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, timestamp.getSecond(), 2);
+        int nanos = timestamp.getNano();
+        if (nanos > 0) {
+            int fractionDigits = 9;
+            while (nanos % 10 == 0) {
+                nanos /= 10;
+                fractionDigits--;
+            }
+            buffer[pos++] = '.';
+            pos = digits(buffer, pos, nanos, fractionDigits);
+        }
+        gen.writeString(buffer, 0, pos);
+    }
+
+    // Writes value left-padded with zeros to exactly width digits
+    private static int digits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
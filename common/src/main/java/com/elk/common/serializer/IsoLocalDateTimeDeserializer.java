@@ -0,0 +1,102 @@
+package com.elk.common.serializer;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * Reads the yyyy-MM-ddTHH:mm:ss[.fraction] strings {@link ApiResponseSerializer} and the JavaTimeModule
+ * write straight from the parser's character buffer. The JavaTimeModule deserializer goes through
+ * DateTimeFormatter, which dominates the decode time of our DTOs (two audit timestamps per product);
+ * any other form, and properties with their own @JsonFormat, are still handed to it.
+ */
+public class IsoLocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+    // yyyy-MM-ddTHH:mm:ss
+    private static final int SECONDS_LENGTH = 19;
+
+    private final LocalDateTimeDeserializer fallback = LocalDateTimeDeserializer.INSTANCE;
+
+    public IsoLocalDateTimeDeserializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format != null && (format.hasPattern() || format.hasShape() || format.hasLenient())) {
+            return fallback.createContextual(ctxt, property);
+        }
+        return this;
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDateTime value = parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
+        return fallback.deserialize(p, ctxt);
+    }
+
+    // Returns null when the text is not in the expected form, so the caller falls back
+    static LocalDateTime parse(char[] text, int offset, int length) {
+        if (length < SECONDS_LENGTH || length == SECONDS_LENGTH + 1 || length > SECONDS_LENGTH + 10
+                || text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != 'T'
+                || text[offset + 13] != ':' || text[offset + 16] != ':') {
+            return null;
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+        int nanos = 0;
+        if (length > SECONDS_LENGTH) {
+            if (text[offset + SECONDS_LENGTH] != '.') {
+                return null;
+            }
+            int fractionDigits = length - SECONDS_LENGTH - 1;
+            nanos = digits(text, offset + SECONDS_LENGTH + 1, fractionDigits);
+            for (int i = fractionDigits; i < 9 && nanos >= 0; i++) {
+                nanos *= 10;
+            }
+        }
+        if ((year | month | day | hour | minute | second | nanos) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+        } catch (DateTimeException ex) {
+            // Out of range field, let the JavaTimeModule report it
+            return null;
+        }
+    }
+
+    // Value of width decimal digits, -1 if any character is not a digit
+    private static int digits(char[] text, int pos, int width) {
+        int value = 0;
+        for (int i = pos; i < pos + width; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.elk.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+public final class RequestPaths {
+
+    private RequestPaths() {
+    }
+
+    /**
+     * Full URL of the current request, query string included. Same value as
+     * ServletUriComponentsBuilder.fromCurrentRequest().toUriString() without parsing the
+     * request into UriComponents first.
+     */
+    public static String currentUrl() {
+        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        StringBuffer url = request.getRequestURL();
+        String query = request.getQueryString();
+        return query == null ? url.toString() : url.append('?').append(query).toString();
+    }
+}
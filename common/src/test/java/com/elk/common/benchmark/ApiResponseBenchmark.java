@@ -0,0 +1,168 @@
+package com.elk.common.benchmark;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.util.RequestPaths;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request envelope cost, from building the response to writing its JSON: the previous
+ * per-service envelope (builder, ServletUriComponentsBuilder path, bean serializer) vs the
+ * shared ApiResponse (static factory, RequestPaths, streaming serializer). Same order-shaped
+ * payload in both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // Like the HTTP message converter: the response stream stays open
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private final OutputStream sink = OutputStream.nullOutputStream();
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Request scope is thread bound, and Scope.Thread runs setup on the benchmark thread
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/42");
+        request.setServerPort(8082);
+        request.setQueryString("expand=items");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        LocalDateTime now = LocalDateTime.now();
+        order = new Order(42L, "ORD-01SXTVV5NE5TS", "customer-1", "CREATED", new BigDecimal("42.00"), 0L,
+                List.of(new OrderItem(1L, 7L, "Product 7", new BigDecimal("10.50"), 4, new BigDecimal("42.00"))),
+                now, "SYSTEM", now, "SYSTEM");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void legacyEnvelope() throws IOException {
+        LegacyApiResponse<Order> response = LegacyApiResponse.<Order>builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.OK.value())
+                .message("Order fetched successfully")
+                .path(ServletUriComponentsBuilder.fromCurrentRequest().toUriString())
+                .data(order)
+                .build();
+        objectMapper.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public void sharedEnvelope() throws IOException {
+        ApiResponse<Order> response = ApiResponse.of(HttpStatus.OK, "Order fetched successfully",
+                order, RequestPaths.currentUrl());
+        objectMapper.writeValue(sink, response);
+    }
+
+    public record Order(Long id, String orderNumber, String customerId, String status, BigDecimal totalAmount,
+                        Long version, List<OrderItem> items, LocalDateTime createdAt, String createdBy,
+                        LocalDateTime updatedAt, String updatedBy) {
+    }
+
+    public record OrderItem(Long id, Long productId, String productName, BigDecimal price, Integer quantity,
+                            BigDecimal totalPrice) {
+    }
+
+    // Copy of the envelope each service used to declare, as Lombok's @Data @Builder generated it
+    public static class LegacyApiResponse<T> {
+        private LocalDateTime timestamp;
+        private int status;
+        private String message;
+        private String path;
+        private T data;
+
+        public static <T> Builder<T> builder() {
+            return new Builder<>();
+        }
+
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public T getData() {
+            return data;
+        }
+
+        public static class Builder<T> {
+            private final LegacyApiResponse<T> response = new LegacyApiResponse<>();
+
+            public Builder<T> timestamp(LocalDateTime timestamp) {
+                response.timestamp = timestamp;
+                return this;
+            }
+
+            public Builder<T> status(int status) {
+                response.status = status;
+                return this;
+            }
+
+            public Builder<T> message(String message) {
+                response.message = message;
+                return this;
+            }
+
+            public Builder<T> path(String path) {
+                response.path = path;
+                return this;
+            }
+
+            public Builder<T> data(T data) {
+                response.data = data;
+                return this;
+            }
+
+            public LegacyApiResponse<T> build() {
+                return response;
+            }
+        }
+    }
+}
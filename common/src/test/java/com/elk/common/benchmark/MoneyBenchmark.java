@@ -0,0 +1,69 @@
+package com.elk.common.benchmark;
+
+import com.elk.common.money.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order total of a cart (price x quantity per line, then the sum) with the previous BigDecimal
+ * arithmetic vs Money, including the conversion back to BigDecimal for the response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"5", "50"})
+    private int lines;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private int[] quantities;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        decimalPrices = new BigDecimal[lines];
+        moneyPrices = new Money[lines];
+        quantities = new int[lines];
+        for (int i = 0; i < lines; i++) {
+            decimalPrices[i] = BigDecimal.valueOf(random.nextLong(100, 100_000), 2);
+            moneyPrices[i] = Money.of(decimalPrices[i]);
+            quantities[i] = random.nextInt(1, 10);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal moneyTotal() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < lines; i++) {
+            total = total.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return total.toBigDecimal();
+    }
+}
@@ -0,0 +1,260 @@
+package com.elk.common.loadbalancer;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.cloud.loadbalancer.support.SimpleObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.LinkedMultiValueMap;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyAwareLoadBalancerTests {
+
+    private static final String SERVICE_ID = "product-service";
+
+    private final List<HttpServer> stubs = new ArrayList<>();
+
+    @AfterEach
+    void stopStubs() {
+        stubs.forEach(stub -> stub.stop(0));
+    }
+
+    /**
+     * Three local product-service stand-ins answering in 5 ms, one of which stalls every request for
+     * 300 ms out of each second, like a stop-the-world GC. The same closed-loop load is run through the
+     * round-robin balancer and this one.
+     */
+    @Test
+    void keepsTailLatencyLowWhenOneInstancePauses() throws Exception {
+        long started = System.nanoTime();
+        ServiceInstance[] instances = {
+                stub("fast-1", started, 5, 0),
+                stub("fast-2", started, 5, 0),
+                stub("pausing", started, 5, 300)
+        };
+
+        Latencies roundRobin = drive(new RoundRobinLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), SERVICE_ID), null);
+        LatencyAwareLoadBalancer latencyAware = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), SERVICE_ID,
+                properties(Duration.ofSeconds(1), Duration.ZERO));
+        Latencies latencyAwareLatencies = drive(latencyAware, latencyAware);
+
+        System.out.printf("round-robin:   %s%nlatency-aware: %s%n", roundRobin, latencyAwareLatencies);
+        assertThat(roundRobin.percentile(99)).isGreaterThan(100);
+        assertThat(latencyAwareLatencies.percentile(99)).isLessThan(roundRobin.percentile(99) / 2);
+    }
+
+    @Test
+    void rampsUpNewInstancesOverTheSlowStartWindow() {
+        AtomicLong clock = new AtomicLong();
+        ServiceInstance established1 = instance("established-1", 8001);
+        ServiceInstance established2 = instance("established-2", 8002);
+        ServiceInstance registered = instance("registered", 8003);
+        MutableInstanceListSupplier supplier = new MutableInstanceListSupplier(List.of(established1, established2));
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(new SimpleObjectProvider<>(supplier), SERVICE_ID,
+                properties(Duration.ofSeconds(10), Duration.ofSeconds(30)), clock::get);
+
+        // Both established instances answer in 10 ms and then have 4 calls in flight each
+        for (int i = 0; i < 20; i++) {
+            Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+            Response<ServiceInstance> response = balancer.choose(request).block();
+            balancer.onStartRequest(request, response);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            balancer.onComplete(completion(request, response));
+        }
+        for (int i = 0; i < 4; i++) {
+            balancer.onStartRequest(new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(established1));
+            balancer.onStartRequest(new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(established2));
+        }
+
+        supplier.instances = List.of(established1, established2, registered);
+        assertThat(share(balancer, registered)).isZero();
+
+        // Once ramped up it is the idle instance, picked whenever it is one of the two candidates
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(share(balancer, registered)).isBetween(0.6, 0.73);
+    }
+
+    @Test
+    void choosingDoesNotDecayTheLatencyEstimates() {
+        AtomicLong clock = new AtomicLong();
+        ServiceInstance slow = instance("slow", 8001);
+        ServiceInstance steady = instance("steady", 8002);
+        LatencyAwareLoadBalancer balancer = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, slow, steady), SERVICE_ID,
+                properties(Duration.ofSeconds(1), Duration.ZERO), clock::get);
+        balancer.choose(new DefaultRequest<>(new RequestDataContext())).block();
+
+        call(balancer, clock, slow, 0, 100);
+        call(balancer, clock, steady, 950, 1000);
+        // A client picking an instance right before the call must not make that response count for nothing
+        clock.set(TimeUnit.MILLISECONDS.toNanos(1100));
+        balancer.choose(new DefaultRequest<>(new RequestDataContext())).block();
+        call(balancer, clock, slow, 1100, 1130);
+
+        // slow: 100 ms decayed over 1.03 s plus the 30 ms response = 55 ms, steady: 50 ms decayed over 0.13 s = 44 ms
+        assertThat(share(balancer, steady)).isEqualTo(1.0);
+    }
+
+    private static void call(LatencyAwareLoadBalancer balancer, AtomicLong clock, ServiceInstance instance,
+                             long startMillis, long endMillis) {
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = new DefaultResponse(instance);
+        clock.set(TimeUnit.MILLISECONDS.toNanos(startMillis));
+        balancer.onStartRequest(request, response);
+        clock.set(TimeUnit.MILLISECONDS.toNanos(endMillis));
+        balancer.onComplete(completion(request, response));
+    }
+
+    private static double share(ReactorServiceInstanceLoadBalancer balancer, ServiceInstance instance) {
+        int chosen = 0;
+        int choices = 3000;
+        for (int i = 0; i < choices; i++) {
+            Response<ServiceInstance> response = balancer.choose(new DefaultRequest<>(new RequestDataContext())).block();
+            if (response.getServer().equals(instance)) {
+                chosen++;
+            }
+        }
+        return (double) chosen / choices;
+    }
+
+    // 8 clients each sending 250 requests back to back
+    private static Latencies drive(ReactorServiceInstanceLoadBalancer balancer, LatencyAwareLoadBalancer lifecycle) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int c = 0; c < 8; c++) {
+                runs.add(clients.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+                        Response<ServiceInstance> response = balancer.choose(request).block();
+                        if (lifecycle != null) {
+                            lifecycle.onStartRequest(request, response);
+                        }
+                        long start = System.nanoTime();
+                        HttpRequest get = HttpRequest.newBuilder(response.getServer().getUri().resolve("/api/v1/products/1")).build();
+                        try {
+                            client.send(get, HttpResponse.BodyHandlers.discarding());
+                        } catch (IOException ex) {
+                            // Kept-alive connection closed by the stub server, retried like OkHttp does
+                            client.send(get, HttpResponse.BodyHandlers.discarding());
+                        }
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                        if (lifecycle != null) {
+                            lifecycle.onComplete(completion(request, response));
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return new Latencies(latencies);
+    }
+
+    private ServiceInstance stub(String instanceId, long started, long delayMillis, long pauseMillis) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 100);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                long sincePauseStart = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) % 1000;
+                long stall = sincePauseStart < pauseMillis ? pauseMillis - sincePauseStart : 0;
+                Thread.sleep(stall + delayMillis);
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+        stubs.add(server);
+        return instance(instanceId, server.getAddress().getPort());
+    }
+
+    private static ServiceInstance instance(String instanceId, int port) {
+        return new DefaultServiceInstance(instanceId, SERVICE_ID, "localhost", port, false);
+    }
+
+    private static CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completion(
+            Request<RequestDataContext> request, Response<ServiceInstance> response) {
+        return new CompletionContext<>(CompletionContext.Status.SUCCESS, request, response,
+                new ResponseData(HttpStatus.OK, new HttpHeaders(), new LinkedMultiValueMap<>(), null));
+    }
+
+    private static LatencyAwareLoadBalancerProperties properties(Duration decay, Duration slowStart) {
+        return new LatencyAwareLoadBalancerProperties(true, decay, slowStart, 0.1, Duration.ofSeconds(1));
+    }
+
+    private static final class MutableInstanceListSupplier implements ServiceInstanceListSupplier {
+
+        volatile List<ServiceInstance> instances;
+
+        MutableInstanceListSupplier(List<ServiceInstance> instances) {
+            this.instances = instances;
+        }
+
+        @Override
+        public String getServiceId() {
+            return SERVICE_ID;
+        }
+
+        @Override
+        public Flux<List<ServiceInstance>> get() {
+            return Flux.just(instances);
+        }
+    }
+
+    private record Latencies(List<Long> millis) {
+
+        Latencies {
+            millis = millis.stream().sorted().toList();
+        }
+
+        long percentile(double percentile) {
+            return millis.get((int) Math.ceil(percentile / 100 * millis.size()) - 1);
+        }
+
+        @Override
+        public String toString() {
+            return "p50=%d ms, p99=%d ms, p99.9=%d ms, max=%d ms".formatted(
+                    percentile(50), percentile(99), percentile(99.9), millis.get(millis.size() - 1));
+        }
+    }
+}
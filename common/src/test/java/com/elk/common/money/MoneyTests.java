@@ -0,0 +1,52 @@
+package com.elk.common.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTests {
+
+    @Test
+    void roundTripsThroughBigDecimalWithCurrencyScale() {
+        Money money = Money.of(new BigDecimal("10.5"));
+
+        assertThat(money.minorUnits()).isEqualTo(1050);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("10.50"));
+        assertThat(new MoneyConverter().convertToEntityAttribute(new MoneyConverter().convertToDatabaseColumn(money)))
+                .isEqualTo(money);
+    }
+
+    @Test
+    void exactConversionRejectsSubMinorUnitAmounts() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.005")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(Money.of(new BigDecimal("10.005"), RoundingMode.HALF_EVEN).minorUnits()).isEqualTo(1000);
+        assertThat(Money.of(new BigDecimal("10.015"), RoundingMode.HALF_EVEN).minorUnits()).isEqualTo(1002);
+    }
+
+    @Test
+    void arithmeticIsExact() {
+        Money price = Money.ofMinor(1999);
+
+        assertThat(price.times(3).plus(Money.ofMinor(3)).toBigDecimal()).isEqualTo(new BigDecimal("60.00"));
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE / 2 + 1).times(2))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void usesTheMinorUnitOfTheCurrency() {
+        Money yen = Money.of(new BigDecimal("1500"), Currency.getInstance("JPY"), RoundingMode.UNNECESSARY);
+
+        assertThat(yen.minorUnits()).isEqualTo(1500);
+        assertThat(yen.toBigDecimal()).isEqualTo(new BigDecimal("1500"));
+        assertThatThrownBy(() -> yen.plus(Money.ofMinor(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.elk.common.serializer;
+
+import com.elk.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiResponseSerializerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void writesTheSameJsonAsTheBeanSerializer() throws Exception {
+        LocalDateTime timestamp = LocalDateTime.of(2026, 3, 7, 4, 5, 6, 120_000_000);
+        ApiResponse<List<Map<String, Object>>> response = new ApiResponse<>(timestamp, 200, "Orders fetched",
+                "http://localhost:8082/api/v1/orders?ids=1,2", List.of(Map.of("id", 1, "total", 10.5)));
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("timestamp", timestamp);
+        expected.put("status", 200);
+        expected.put("message", "Orders fetched");
+        expected.put("path", "http://localhost:8082/api/v1/orders?ids=1,2");
+        expected.put("data", List.of(Map.of("id", 1, "total", 10.5)));
+
+        assertThat(objectMapper.writeValueAsString(response)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+
+    @Test
+    void formatsTimestampsLikeTheJavaTimeModule() throws Exception {
+        for (LocalDateTime timestamp : List.of(
+                LocalDateTime.of(2026, 1, 1, 0, 0),
+                LocalDateTime.of(2026, 12, 31, 23, 59, 59, 1),
+                LocalDateTime.of(999, 10, 18, 4, 1, 24, 609_024_150),
+                LocalDateTime.of(2026, 10, 18, 4, 1, 24, 500_000_000))) {
+            ObjectNode written = (ObjectNode) objectMapper.readTree(objectMapper.writeValueAsString(
+                    new ApiResponse<>(timestamp, 200, null, null, null)));
+            assertThat(written.get("timestamp").asText()).isEqualTo(objectMapper.convertValue(timestamp, String.class));
+        }
+    }
+
+    @Test
+    void readsBackWithGenericPayload() throws Exception {
+        ApiResponse<List<Long>> response = new ApiResponse<>(LocalDateTime.now(), 201, "created", "/x", List.of(1L, 2L));
+
+        ApiResponse<List<Long>> read = objectMapper.readValue(objectMapper.writeValueAsString(response),
+                new TypeReference<>() { });
+
+        assertThat(read.getData()).containsExactly(1L, 2L);
+        assertThat(read.getStatus()).isEqualTo(201);
+        assertThat(read.getTimestamp()).isEqualTo(response.getTimestamp());
+    }
+}
@@ -0,0 +1,62 @@
+package com.elk.common.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsoLocalDateTimeDeserializerTests {
+
+    private final ObjectMapper javaTime = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectMapper fast = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer()));
+
+    @Test
+    void readsTheSameValuesAsTheJavaTimeModule() throws Exception {
+        List<String> texts = List.of(
+                "2026-03-07T04:05:06",
+                "2026-03-07T04:05:06.1",
+                "2026-03-07T04:05:06.120",
+                "2026-03-07T04:05:06.123456789",
+                "0001-01-01T00:00:00",
+                "9999-12-31T23:59:59.999999999",
+                // Not in the fast path's form, read by the JavaTimeModule
+                "2026-03-07T04:05",
+                "2026-03-07T04:05:06Z",
+                "+12026-03-07T04:05:06");
+        for (String text : texts) {
+            String json = "\"" + text + "\"";
+            assertThat(fast.readValue(json, LocalDateTime.class))
+                    .as(text)
+                    .isEqualTo(javaTime.readValue(json, LocalDateTime.class));
+        }
+    }
+
+    @Test
+    void leavesInvalidValuesToTheJavaTimeModule() {
+        assertThatThrownBy(() -> fast.readValue("\"2026-13-07T04:05:06\"", LocalDateTime.class))
+                .isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> fast.readValue("\"2026-03-07T04:05:0x\"", LocalDateTime.class))
+                .isInstanceOf(InvalidFormatException.class);
+    }
+
+    @Test
+    void readsSmile() throws Exception {
+        ObjectMapper smile = new ObjectMapper(new SmileFactory())
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer()));
+        LocalDateTime timestamp = LocalDateTime.of(2026, 3, 7, 4, 5, 6, 120_000_000);
+
+        assertThat(smile.readValue(smile.writeValueAsBytes("2026-03-07T04:05:06.12"), LocalDateTime.class))
+                .isEqualTo(timestamp);
+    }
+}
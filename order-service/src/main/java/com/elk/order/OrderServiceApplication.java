@@ -1,13 +1,19 @@
 package com.elk.order;
 
+import com.elk.common.money.MoneyConverter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
+// Own entities plus elk-common's auto-applied MoneyConverter
+@EntityScan(basePackageClasses = {OrderServiceApplication.class, MoneyConverter.class})
 @EnableDiscoveryClient
+@ConfigurationPropertiesScan
 @EnableJpaAuditing
 @EnableFeignClients(basePackages = "com.elk.order.client")
 public class OrderServiceApplication {
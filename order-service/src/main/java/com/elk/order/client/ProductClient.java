@@ -1,14 +1,24 @@
 package com.elk.order.client;
 
-import com.elk.order.dto.ApiResponse;
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.http.InternalMediaTypes;
 import com.elk.order.dto.ProductResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Collection;
+import java.util.List;
+
+// Internal calls ask for Smile, see InternalMediaTypes
 @FeignClient(name = "PRODUCT-SERVICE")
 public interface ProductClient {
 
-    @GetMapping("/api/v1/products/{id}")
+    @GetMapping(value = "/api/v1/products/{id}", produces = InternalMediaTypes.SMILE_OR_JSON)
     ApiResponse<ProductResponse> getProductById(@PathVariable Long id);
+
+    // Multi-get: resolves a whole cart in one round trip
+    @GetMapping(value = "/api/v1/products", produces = InternalMediaTypes.SMILE_OR_JSON)
+    ApiResponse<List<ProductResponse>> getProductsByIds(@RequestParam("ids") Collection<Long> ids);
 }
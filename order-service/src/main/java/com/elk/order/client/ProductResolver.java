@@ -0,0 +1,200 @@
+package com.elk.order.client;
+
+import com.elk.order.config.ProductCacheProperties;
+import com.elk.order.config.ProductLookupProperties;
+import com.elk.common.dto.ApiResponse;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.exception.DownstreamTimeoutException;
+import com.elk.order.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resolves the products referenced by an order, either with one multi-get call
+ * or by fanning single lookups out on the bounded product lookup executor.
+ * Results are served from a size-bounded near cache when order.product-cache is enabled.
+ * Calls go through {@link ProductServiceGuard}; lookups it rejects are answered from its snapshot.
+ */
+@Component
+@Slf4j
+public class ProductResolver {
+
+    private final ProductClient productClient;
+    private final ProductServiceGuard guard;
+    private final ProductLookupProperties properties;
+    private final ExecutorService productLookupExecutor;
+    private final LoadingCache<Long, ProductResponse> productCache;
+
+    public ProductResolver(ProductClient productClient,
+                           ProductServiceGuard guard,
+                           ProductLookupProperties properties,
+                           ProductCacheProperties cacheProperties,
+                           ExecutorService productLookupExecutor,
+                           MeterRegistry meterRegistry) {
+        this.productClient = productClient;
+        this.guard = guard;
+        this.properties = properties;
+        this.productLookupExecutor = productLookupExecutor;
+        this.productCache = cacheProperties.enabled() ? buildCache(cacheProperties, meterRegistry) : null;
+    }
+
+    public Map<Long, ProductResponse> resolve(Collection<Long> productIds) {
+        Map<Long, ProductResponse> products;
+        try {
+            // Cache misses are loaded together through fetch(), so a cold cart still costs one batch
+            products = productCache != null
+                    ? productCache.getAll(productIds)
+                    : fetch(productIds);
+        } catch (RuntimeException ex) {
+            if (!guard.isRejection(ex)) {
+                throw ex;
+            }
+            products = guard.fallback(productIds, ex);
+        }
+
+        for (Long productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new ResourceNotFoundException("Product not found with id=" + productId);
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Resolves a large set of products (bulk order creation) with chunked multi-get calls
+     * regardless of lookup mode. Unknown products are simply absent from the result, as are products
+     * missing from the last-known-good snapshot while product-service calls are rejected.
+     */
+    public Map<Long, ProductResponse> resolveAvailable(Collection<Long> productIds) {
+        try {
+            return productCache != null
+                    ? productCache.getAll(productIds, missing -> fetchBatch(new ArrayList<>(missing)))
+                    : fetchBatch(productIds);
+        } catch (RuntimeException ex) {
+            if (!guard.isRejection(ex)) {
+                throw ex;
+            }
+            return guard.fallbackAvailable(productIds, ex);
+        }
+    }
+
+    private LoadingCache<Long, ProductResponse> buildCache(ProductCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        // expireAfterWrite is the hard staleness bound for prices; refreshAfterWrite reloads hot keys
+        // in the background before they expire, so readers keep getting the cached value meanwhile
+        LoadingCache<Long, ProductResponse> cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .refreshAfterWrite(cacheProperties.refreshAfterWrite())
+                .executor(productLookupExecutor)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public ProductResponse load(Long productId) {
+                        ProductResponse product = guard.call(() -> productClient.getProductById(productId)).getData();
+                        guard.remember(product);
+                        return product;
+                    }
+
+                    @Override
+                    public Map<Long, ProductResponse> loadAll(Set<? extends Long> productIds) {
+                        return fetch(new ArrayList<>(productIds));
+                    }
+                });
+        // Exposes hits, misses, evictions and size under cache.* with cache=products
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+        return cache;
+    }
+
+    private Map<Long, ProductResponse> fetch(Collection<Long> productIds) {
+        return properties.mode() == ProductLookupProperties.Mode.PARALLEL
+                ? fetchParallel(productIds)
+                : fetchBatch(productIds);
+    }
+
+    private Map<Long, ProductResponse> fetchBatch(Collection<Long> productIds) {
+        // Chunked so the ids query string stays within URL length limits
+        List<Long> ids = new ArrayList<>(productIds);
+        Map<Long, ProductResponse> products = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += properties.batchSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(from + properties.batchSize(), ids.size()));
+            List<ProductResponse> productResponses = guard.call(() -> productClient.getProductsByIds(chunk)).getData();
+            log.info("Product response from the feign call : requested={}, found={}",
+                    chunk.size(), productResponses == null ? 0 : productResponses.size());
+            if (productResponses != null) {
+                productResponses.forEach(product -> products.put(product.id(), product));
+            }
+        }
+        guard.remember(products);
+        return products;
+    }
+
+    private Map<Long, ProductResponse> fetchParallel(Collection<Long> productIds) {
+        // Plain submit rather than CompletableFuture.supplyAsync: cancel(true) on these futures interrupts
+        // the lookup thread, so a lookup past the deadline gives back its pool thread and bulkhead permit
+        List<Future<ApiResponse<ProductResponse>>> futures = new ArrayList<>(productIds.size());
+        try {
+            for (Long productId : productIds) {
+                futures.add(productLookupExecutor.submit(() -> guard.call(() -> productClient.getProductById(productId))));
+            }
+        } catch (RejectedExecutionException ex) {
+            cancelAll(futures);
+            log.error("Product lookup executor saturated, rejecting order with {} products", productIds.size());
+            throw new DownstreamTimeoutException("Product lookup capacity exhausted, retry later");
+        }
+
+        // One deadline for the whole order, not one Feign timeout per product
+        long deadline = System.nanoTime() + properties.timeout().toNanos();
+        Map<Long, ProductResponse> products = new HashMap<>();
+        try {
+            for (Future<ApiResponse<ProductResponse>> future : futures) {
+                ProductResponse product = future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS).getData();
+                if (product != null) {
+                    products.put(product.id(), product);
+                }
+            }
+        } catch (TimeoutException ex) {
+            cancelAll(futures);
+            log.error("Product lookup exceeded deadline of {} ms for {} products",
+                    properties.timeout().toMillis(), productIds.size());
+            throw new DownstreamTimeoutException("Product lookup did not complete within "
+                    + properties.timeout().toMillis() + " ms");
+        } catch (ExecutionException ex) {
+            cancelAll(futures);
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Product lookup failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Product lookup interrupted", ex);
+        }
+
+        log.info("Product response from the parallel feign calls : requested={}, found={}",
+                productIds.size(), products.size());
+        guard.remember(products);
+        return products;
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+    }
+}
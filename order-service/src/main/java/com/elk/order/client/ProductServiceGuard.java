@@ -0,0 +1,171 @@
+package com.elk.order.client;
+
+import com.elk.order.config.ProductFallbackProperties;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.exception.DownstreamUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Guards product-service calls with the "product-service" circuit breaker and bulkhead
+ * (configured under resilience4j.* in application.yml) and keeps a last-known-good snapshot of
+ * every product fetched, so orders can still be priced for a while when calls are rejected.
+ * Breaker state and call counts are published by resilience4j-micrometer under resilience4j.*.
+ */
+@Component
+@Slf4j
+public class ProductServiceGuard {
+
+    static final String INSTANCE = "product-service";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ProductFallbackProperties properties;
+    private final Cache<Long, ProductResponse> lastKnownGood;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+    private final Counter fallbackServed;
+    private final Counter fallbackMissed;
+
+    public ProductServiceGuard(CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry,
+                               ProductFallbackProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE);
+        this.properties = properties;
+        // expireAfterWrite enforces the age limit: an entry older than max-age is never served
+        this.lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.maxAge())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lastKnownGood, "products-last-known-good");
+        this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+        this.fallbackServed = fallbackCounter(meterRegistry, "served");
+        this.fallbackMissed = fallbackCounter(meterRegistry, "missed");
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Product service circuit breaker transition={}", event.getStateTransition()));
+    }
+
+    public <T> T call(Supplier<T> call) {
+        // Breaker inside the bulkhead: calls rejected for capacity are not recorded as failures
+        return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+    }
+
+    public <T> Mono<T> call(Mono<T> call) {
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead));
+    }
+
+    public void remember(Map<Long, ProductResponse> products) {
+        lastKnownGood.putAll(products);
+    }
+
+    public void remember(ProductResponse product) {
+        if (product != null) {
+            lastKnownGood.put(product.id(), product);
+        }
+    }
+
+    /**
+     * Whether the failure is a rejection by the breaker or bulkhead rather than a failed call,
+     * i.e. product-service was not contacted and the snapshot may be used instead.
+     */
+    public boolean isRejection(Throwable failure) {
+        Throwable cause = unwrap(failure);
+        return cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException;
+    }
+
+    /**
+     * Serves every requested product from the last-known-good snapshot, or fails the whole
+     * lookup: an order is never priced from a partial snapshot.
+     */
+    public Map<Long, ProductResponse> fallback(Collection<Long> productIds, Throwable rejection) {
+        String reason = recordRejection(rejection);
+        if (properties.enabled()) {
+            Map<Long, ProductResponse> products = new HashMap<>(lastKnownGood.getAllPresent(productIds));
+            if (products.size() == productIds.size()) {
+                fallbackServed.increment();
+                log.warn("Product service call rejected ({}), serving {} products from last-known-good snapshot",
+                        reason, products.size());
+                return products;
+            }
+            log.warn("Product service call rejected ({}), snapshot has {} of {} products",
+                    reason, products.size(), productIds.size());
+        }
+        fallbackMissed.increment();
+        throw new DownstreamUnavailableException("Product service unavailable (" + reason + "), retry later");
+    }
+
+    /**
+     * Serves whichever of the requested products the snapshot still holds, for bulk lookups whose
+     * caller rejects each order needing a missing product. Fails only when none can be served.
+     */
+    public Map<Long, ProductResponse> fallbackAvailable(Collection<Long> productIds, Throwable rejection) {
+        String reason = recordRejection(rejection);
+        if (properties.enabled()) {
+            Map<Long, ProductResponse> products = new HashMap<>(lastKnownGood.getAllPresent(productIds));
+            if (!products.isEmpty()) {
+                fallbackServed.increment();
+                log.warn("Product service call rejected ({}), serving {} of {} products from last-known-good snapshot",
+                        reason, products.size(), productIds.size());
+                return products;
+            }
+            log.warn("Product service call rejected ({}), snapshot has none of {} products", reason, productIds.size());
+        }
+        fallbackMissed.increment();
+        throw new DownstreamUnavailableException("Product service unavailable (" + reason + "), retry later");
+    }
+
+    private String recordRejection(Throwable rejection) {
+        boolean circuitOpen = unwrap(rejection) instanceof CallNotPermittedException;
+        (circuitOpen ? circuitOpenRejections : bulkheadFullRejections).increment();
+        return circuitOpen ? "circuit breaker is open" : "too many concurrent calls";
+    }
+
+    // Cache loads and parallel lookups wrap the rejection thrown on the calling thread
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("product.lookup.rejected")
+                .description("Product lookups rejected by the circuit breaker or bulkhead without calling product-service")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Counter fallbackCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("product.lookup.fallback")
+                .description("Rejected product lookups answered from the last-known-good snapshot")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
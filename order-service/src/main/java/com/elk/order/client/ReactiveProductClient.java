@@ -0,0 +1,49 @@
+package com.elk.order.client;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.order.dto.ProductResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of {@link ProductClient}, used by the reactive order-creation mode.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.reactive", name = "enabled", havingValue = "true")
+public class ReactiveProductClient {
+
+    private static final ParameterizedTypeReference<ApiResponse<ProductResponse>> PRODUCT =
+            new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<ApiResponse<List<ProductResponse>>> PRODUCTS =
+            new ParameterizedTypeReference<>() { };
+
+    private final WebClient webClient;
+
+    public ReactiveProductClient(@LoadBalanced WebClient.Builder webClientBuilder) {
+        this.webClient = webClientBuilder.baseUrl("http://PRODUCT-SERVICE").build();
+    }
+
+    public Mono<ProductResponse> getProductById(Long id) {
+        return webClient.get()
+                .uri("/api/v1/products/{id}", id)
+                .retrieve()
+                .bodyToMono(PRODUCT)
+                .mapNotNull(ApiResponse::getData);
+    }
+
+    // Multi-get: resolves a whole cart in one round trip
+    public Mono<List<ProductResponse>> getProductsByIds(Collection<Long> ids) {
+        return webClient.get()
+                .uri(uri -> uri.path("/api/v1/products").queryParam("ids", ids).build())
+                .retrieve()
+                .bodyToMono(PRODUCTS)
+                .map(response -> response.getData() == null ? List.<ProductResponse>of() : response.getData());
+    }
+}
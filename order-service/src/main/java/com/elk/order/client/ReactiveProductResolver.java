@@ -0,0 +1,138 @@
+package com.elk.order.client;
+
+import com.elk.order.config.ProductCacheProperties;
+import com.elk.order.config.ProductLookupProperties;
+import com.elk.order.config.ReactiveOrderProperties;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.exception.DownstreamTimeoutException;
+import com.elk.order.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reactive variant of {@link ProductResolver}: the same BATCH/PARALLEL lookup modes, deadline
+ * and near cache, but product-service calls are composed with WebClient instead of blocking a thread each.
+ * Shares {@link ProductServiceGuard} (breaker, bulkhead and snapshot) with the blocking resolver.
+ */
+@Component
+@ConditionalOnProperty(prefix = "order.reactive", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReactiveProductResolver {
+
+    private final ReactiveProductClient productClient;
+    private final ProductServiceGuard guard;
+    private final ProductLookupProperties properties;
+    private final int lookupConcurrency;
+    private final AsyncLoadingCache<Long, ProductResponse> productCache;
+
+    public ReactiveProductResolver(ReactiveProductClient productClient,
+                                   ProductServiceGuard guard,
+                                   ProductLookupProperties properties,
+                                   ProductCacheProperties cacheProperties,
+                                   ReactiveOrderProperties reactiveProperties,
+                                   MeterRegistry meterRegistry) {
+        this.productClient = productClient;
+        this.guard = guard;
+        this.properties = properties;
+        this.lookupConcurrency = reactiveProperties.lookupConcurrency();
+        this.productCache = cacheProperties.enabled() ? buildCache(cacheProperties, meterRegistry) : null;
+    }
+
+    public Mono<Map<Long, ProductResponse>> resolve(Collection<Long> productIds) {
+        // Cache misses are loaded together through fetch(), so a cold cart still costs one batch
+        Mono<Map<Long, ProductResponse>> products = productCache != null
+                ? Mono.fromFuture(() -> productCache.getAll(productIds))
+                : fetch(productIds);
+
+        return products
+                // One deadline for the whole order, not one per product-service call
+                .timeout(properties.timeout())
+                .onErrorMap(TimeoutException.class, ex -> {
+                    log.error("Product lookup exceeded deadline of {} ms for {} products",
+                            properties.timeout().toMillis(), productIds.size());
+                    return new DownstreamTimeoutException("Product lookup did not complete within "
+                            + properties.timeout().toMillis() + " ms");
+                })
+                .onErrorResume(guard::isRejection, ex -> Mono.fromCallable(() -> guard.fallback(productIds, ex)))
+                .doOnNext(resolved -> {
+                    for (Long productId : productIds) {
+                        if (!resolved.containsKey(productId)) {
+                            throw new ResourceNotFoundException("Product not found with id=" + productId);
+                        }
+                    }
+                });
+    }
+
+    private AsyncLoadingCache<Long, ProductResponse> buildCache(ProductCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        AsyncLoadingCache<Long, ProductResponse> cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .refreshAfterWrite(cacheProperties.refreshAfterWrite())
+                .recordStats()
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<? extends ProductResponse> asyncLoad(Long productId, Executor executor) {
+                        return guard.call(productClient.getProductById(productId))
+                                .doOnNext(guard::remember)
+                                .toFuture();
+                    }
+
+                    @Override
+                    public CompletableFuture<? extends Map<? extends Long, ? extends ProductResponse>> asyncLoadAll(
+                            Set<? extends Long> productIds, Executor executor) {
+                        return fetch(new ArrayList<>(productIds)).toFuture();
+                    }
+                });
+        // Separate from the blocking resolver's cache, exposed under cache.* with cache=products-reactive
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "products-reactive");
+        return cache;
+    }
+
+    private Mono<Map<Long, ProductResponse>> fetch(Collection<Long> productIds) {
+        return properties.mode() == ProductLookupProperties.Mode.PARALLEL
+                ? fetchParallel(productIds)
+                : fetchBatch(productIds);
+    }
+
+    private Mono<Map<Long, ProductResponse>> fetchBatch(Collection<Long> productIds) {
+        // Chunked so the ids query string stays within URL length limits, chunks are requested concurrently
+        List<Long> ids = new ArrayList<>(productIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.batchSize()) {
+            chunks.add(ids.subList(from, Math.min(from + properties.batchSize(), ids.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .flatMap(chunk -> guard.call(productClient.getProductsByIds(chunk))
+                        .doOnNext(found -> log.info("Product response from the webclient call : requested={}, found={}",
+                                chunk.size(), found.size())), lookupConcurrency)
+                .flatMapIterable(found -> found)
+                .collectMap(ProductResponse::id)
+                .doOnNext(guard::remember);
+    }
+
+    private Mono<Map<Long, ProductResponse>> fetchParallel(Collection<Long> productIds) {
+        return Flux.fromIterable(productIds)
+                .flatMap(productId -> guard.call(productClient.getProductById(productId)), lookupConcurrency)
+                .collectMap(ProductResponse::id)
+                .doOnNext(guard::remember)
+                .doOnNext(products -> log.info("Product response from the parallel webclient calls : requested={}, found={}",
+                        productIds.size(), products.size()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "order.batch")
+public record BatchOrderProperties(
+        @DefaultValue("5000") int maxOrders,
+        // Orders persisted per write transaction
+        @DefaultValue("100") int chunkSize
+) { }
@@ -0,0 +1,15 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.idempotency")
+public record IdempotencyProperties(
+        // How long a completed response can be replayed for the same Idempotency-Key
+        @DefaultValue("24h") Duration expireAfterWrite,
+        @DefaultValue("100000") long maximumSize,
+        // How long a duplicate waits for the in-flight request with the same key
+        @DefaultValue("10s") Duration inFlightWaitTimeout
+) { }
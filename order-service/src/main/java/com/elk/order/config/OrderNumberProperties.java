@@ -0,0 +1,10 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.number")
+public record OrderNumberProperties(
+        // 0-1023, must be distinct per running instance. Required: only the dev and test profiles
+        // fall back to a node id derived from host address and pid, which can collide across instances
+        Integer nodeId
+) { }
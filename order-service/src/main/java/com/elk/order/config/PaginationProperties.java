@@ -0,0 +1,17 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "order.pagination")
+public record PaginationProperties(
+        @DefaultValue("50") int defaultPageSize,
+        @DefaultValue("500") int maxPageSize
+) {
+    public int resolve(Integer requested) {
+        if (requested == null || requested < 1) {
+            return defaultPageSize;
+        }
+        return Math.min(requested, maxPageSize);
+    }
+}
@@ -0,0 +1,16 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.product-cache")
+public record ProductCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        // Upper bound on how stale a cached price can be
+        @DefaultValue("60s") Duration expireAfterWrite,
+        // Hot keys read after this age are reloaded in the background
+        @DefaultValue("30s") Duration refreshAfterWrite
+) { }
@@ -0,0 +1,15 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.product-fallback")
+public record ProductFallbackProperties(
+        // Serve last-known-good products while the product-service circuit is open or its bulkhead is full
+        @DefaultValue("true") boolean enabled,
+        // Oldest snapshot an order may be priced from
+        @DefaultValue("15m") Duration maxAge,
+        @DefaultValue("50000") long maximumSize
+) { }
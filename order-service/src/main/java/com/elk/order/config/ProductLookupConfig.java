@@ -0,0 +1,50 @@
+package com.elk.order.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@Slf4j
+public class ProductLookupConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService productLookupExecutor(ProductLookupProperties properties) {
+        // Bounded pool + bounded queue: a slow product-service can not grow threads or memory without limit
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                properties.parallelism(),
+                properties.parallelism(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                lookupThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Virtual threads when the running JDK has them (21+), daemon platform threads otherwise
+    private ThreadFactory lookupThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "product-lookup-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            log.info("Product lookups will run on virtual threads");
+            return factory;
+        } catch (ReflectiveOperationException ex) {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "product-lookup-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "order.product-lookup")
+public record ProductLookupProperties(
+        // BATCH -> one multi-get call per order, PARALLEL -> one call per product fanned out concurrently
+        @DefaultValue("BATCH") Mode mode,
+        // Overall deadline for resolving every product of one order
+        @DefaultValue("2s") Duration timeout,
+        // Max concurrent lookups across all orders (PARALLEL mode)
+        @DefaultValue("32") int parallelism,
+        @DefaultValue("256") int queueCapacity,
+        // Max ids per multi-get call
+        @DefaultValue("200") int batchSize
+) {
+    public enum Mode {
+        BATCH,
+        PARALLEL
+    }
+}
@@ -0,0 +1,40 @@
+package com.elk.order.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+@ConditionalOnProperty(prefix = "order.reactive", name = "enabled", havingValue = "true")
+public class ReactiveOrderConfig {
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(ObjectProvider<WebClientCustomizer> customizers,
+                                                         ReactiveOrderProperties properties) {
+        // Same codec setup (application ObjectMapper) as Boot's builder, resolved through Eureka like Feign
+        ConnectionProvider connections = ConnectionProvider.builder("product-service")
+                .maxConnections(properties.maxConnections())
+                .build();
+        WebClient.Builder builder = WebClient.builder()
+                // compress: ask for gzip like the Feign clients do, large multi-get responses shrink ~10x
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections).compress(true)));
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler orderWriteScheduler(ReactiveOrderProperties properties) {
+        // JPA is blocking: writes get their own bounded pool so they never run on event loop threads
+        return Schedulers.newBoundedElastic(properties.writeThreads(), properties.writeQueueCapacity(), "order-write");
+    }
+}
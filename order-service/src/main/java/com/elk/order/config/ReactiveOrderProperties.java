@@ -0,0 +1,18 @@
+package com.elk.order.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "order.reactive")
+public record ReactiveOrderProperties(
+        // true -> POST /api/v1/orders resolves products with WebClient and returns a Mono
+        @DefaultValue("false") boolean enabled,
+        // Threads allowed to run blocking JPA writes at the same time
+        @DefaultValue("10") int writeThreads,
+        // Writes waiting for a thread before new orders are rejected
+        @DefaultValue("1000") int writeQueueCapacity,
+        // Max concurrent product-service calls per order
+        @DefaultValue("8") int lookupConcurrency,
+        // WebClient connection pool to product-service (Reactor Netty defaults to 2x CPUs, min 16)
+        @DefaultValue("500") int maxConnections
+) { }
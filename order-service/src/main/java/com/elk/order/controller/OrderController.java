@@ -1,20 +1,38 @@
 package com.elk.order.controller;
 
-import com.elk.order.dto.ApiResponse;
-import com.elk.order.dto.OrderRequest;
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.util.RequestPaths;
+import com.elk.order.dto.BatchOrderRequest;
+import com.elk.order.dto.BatchOrderResponse;
+import com.elk.order.dto.BulkOrderStatusUpdateRequest;
+import com.elk.order.dto.BulkOrderStatusUpdateResponse;
+import com.elk.order.dto.CursorPageResponse;
+import com.elk.order.dto.CustomerOrderSummaryResponse;
 import com.elk.order.dto.OrderResponse;
+import com.elk.order.dto.OrderStatsResponse;
+import com.elk.order.dto.OrderStatusUpdateRequest;
 import com.elk.order.dto.OrderSummaryResponse;
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.exception.BadRequestException;
+import com.elk.order.service.CustomerOrderSummaryService;
+import com.elk.order.service.OrderStatsService;
 import com.elk.order.service.OrderService;
-import com.elk.order.util.MapperUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -24,31 +42,40 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderservice;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+    private final OrderStatsService orderStatsService;
+    private final ObjectMapper objectMapper;
 
-    @PostMapping
-    public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
-            @Valid @RequestBody OrderRequest orderRequest
-            ) {
-        log.info("Creating order for customerId={}", orderRequest.customerId());
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<BatchOrderResponse>> createOrders(@Valid @RequestBody BatchOrderRequest batchRequest) {
+        log.info("Creating batch of {} orders", batchRequest.orders().size());
 
-        OrderResponse orderResponse=orderservice.createOrder(orderRequest);
+        BatchOrderResponse batchResponse = orderservice.createOrders(batchRequest.orders());
 
-        log.info("Order created successfully orderNumber={}", orderResponse.orderNumber());
+        log.info("Batch processed succeeded={}, failed={}", batchResponse.succeeded(), batchResponse.failed());
 
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(MapperUtil.buildAPiResponse(
-                   HttpStatus.CREATED,
-                   "Order created successfully",
-                   orderResponse, currentPath()
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.of(
+                        HttpStatus.OK,
+                        "Batch processed",
+                        batchResponse, currentPath()
                 ));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<OrderResponse>> getOrderById(@PathVariable  @Min(1) Long id){
+    public ResponseEntity<ApiResponse<OrderResponse>> getOrderById(@PathVariable  @Min(1) Long id,
+                                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                   WebRequest webRequest){
+        // Conditional GET: compare against the version column only, the order is loaded on a mismatch
+        if (ifNoneMatch != null && webRequest.checkNotModified(orderETag(id, orderservice.getOrderVersion(id)))) {
+            log.info("Order not modified id={}", id);
+            return null;
+        }
         log.info("Fetching order with id={}", id);
         OrderResponse orderResponse = orderservice.getOrderById(id);
-        return ResponseEntity.status(HttpStatus.OK).body(
-                MapperUtil.buildAPiResponse(
+        // Vary: the body is negotiated (JSON for clients, Smile for Feign), caches must key on Accept
+        return ResponseEntity.status(HttpStatus.OK).eTag(orderETag(id, orderResponse.version())).varyBy(HttpHeaders.ACCEPT).body(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Order fetched successfully",
                         orderResponse,
@@ -57,12 +84,58 @@ public class OrderController {
         );
     }
 
+    // Header columns only (no items, no audit), for callers such as payment-service that need status and total
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<ApiResponse<OrderSummaryResponse>> getOrderSummary(@PathVariable @Min(1) Long id){
+        log.info("Fetching order summary with id={}", id);
+        OrderSummaryResponse summary = orderservice.getOrderSummary(id);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.of(
+                        HttpStatus.OK,
+                        "Order summary fetched successfully",
+                        summary,
+                        currentPath()
+                )
+        );
+    }
+
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<ApiResponse<OrderResponse>> updateOrderStatus(
+            @PathVariable @Min(1) Long id,
+            @Valid @RequestBody OrderStatusUpdateRequest request){
+        log.info("Changing status of order id={} to {}", id, request.status());
+        OrderResponse orderResponse = orderservice.updateOrderStatus(id, request);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.of(
+                        HttpStatus.OK,
+                        "Order status updated successfully",
+                        orderResponse,
+                        currentPath()
+                )
+        );
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<BulkOrderStatusUpdateResponse>> updateOrderStatuses(
+            @Valid @RequestBody BulkOrderStatusUpdateRequest request){
+        log.info("Changing status of {} orders to {}", request.orderIds().size(), request.status());
+        BulkOrderStatusUpdateResponse response = orderservice.updateOrderStatuses(request);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.of(
+                        HttpStatus.OK,
+                        "Order statuses updated",
+                        response,
+                        currentPath()
+                )
+        );
+    }
+
     @GetMapping("/orderNumber/{orderNumber}")
     public ResponseEntity<ApiResponse<OrderResponse>> getOrderByOrderNumber(@PathVariable String orderNumber){
         log.info("Fetching order with orderNumber={}", orderNumber);
         OrderResponse orderResponse = orderservice.getOrderByOrderNumber(orderNumber);
         return ResponseEntity.status(HttpStatus.OK).body(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Order fetched by order number successfully",
                         orderResponse,
@@ -76,7 +149,7 @@ public class OrderController {
         log.info("Fetching orders for customerId={}", customerId);
         List<OrderResponse> orderResponses = orderservice.findByCustomerId(customerId);
         return ResponseEntity.status(HttpStatus.OK).body(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Customer orders fetched successfully",
                         orderResponses,
@@ -86,12 +159,55 @@ public class OrderController {
     }
 
 
+    // Served from in-memory sliding window counters, never from the orders table
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<OrderStatsResponse>> getOrderStats(){
+        OrderStatsResponse stats = orderStatsService.snapshot();
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.of(
+                        HttpStatus.OK,
+                        "Order stats fetched successfully",
+                        stats,
+                        currentPath()
+                )
+        );
+    }
+
+    // Cheap dashboard read backed by the per-customer read model
+    @GetMapping("/customer/{customerId}/summary")
+    public ResponseEntity<ApiResponse<CustomerOrderSummaryResponse>> getCustomerOrderSummary(@PathVariable String customerId){
+        log.info("Fetching order summary for customerId={}", customerId);
+        CustomerOrderSummaryResponse summary = customerOrderSummaryService.getSummary(customerId);
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.of(
+                        HttpStatus.OK,
+                        "Customer order summary fetched successfully",
+                        summary,
+                        currentPath()
+                )
+        );
+    }
+
+    @PostMapping("/customer-summaries/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildCustomerOrderSummaries(){
+        log.info("Rebuilding customer order summaries");
+        int rebuilt = customerOrderSummaryService.rebuild();
+        return ResponseEntity.status(HttpStatus.OK).body(
+                ApiResponse.of(
+                        HttpStatus.OK,
+                        "Customer order summaries rebuilt for " + rebuilt + " customers",
+                        rebuilt,
+                        currentPath()
+                )
+        );
+    }
+
     @GetMapping("/status/{status}")
     public ResponseEntity<ApiResponse<List<OrderResponse>>> getOrderByStatus(@PathVariable String status){
         log.info("Fetching orders with status={}", status);
         List<OrderResponse> orderResponses = orderservice.findByOrderStatus(status);
         return ResponseEntity.status(HttpStatus.OK).body(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Orders fetched by status successfully",
                         orderResponses,
@@ -100,12 +216,44 @@ public class OrderController {
         );
     }
 
+    // Newline-delimited JSON, written row by row so heap use does not grow with the result size
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String customerId){
+        if ((status == null) == (customerId == null)) {
+            throw new BadRequestException("Exactly one of status or customerId is required");
+        }
+        OrderStatus orderStatus = status == null ? null : parseStatus(status);
+        log.info("Exporting orders status={}, customerId={}", orderStatus, customerId);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // Lines are separated explicitly, no default root value separator
+                generator.setRootValueSeparator(null);
+                orderservice.exportOrders(orderStatus, customerId, order -> {
+                    try {
+                        objectMapper.writeValue(generator, order);
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/summary")
-    public ResponseEntity<ApiResponse<List<OrderSummaryResponse>>> getOrderSummaries(){
-        log.info("Fetching order summaries");
-        List<OrderSummaryResponse> orderResponse = orderservice.findAllOrderSummaries();
+    public ResponseEntity<ApiResponse<CursorPageResponse<OrderSummaryResponse>>> getOrderSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size){
+        log.info("Fetching order summaries cursor={}, size={}", cursor, size);
+        CursorPageResponse<OrderSummaryResponse> orderResponse = orderservice.findOrderSummaries(cursor, size);
         return ResponseEntity.status(HttpStatus.OK).body(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Order summaries fetched successfully",
                         orderResponse,
@@ -114,8 +262,22 @@ public class OrderController {
         );
     }
 
+    private OrderStatus parseStatus(String status) {
+        try {
+            return OrderStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid order status: " + status);
+        }
+    }
+
+    // Weak ETag, the JSON and Smile bodies of one order state are equivalent but not byte-identical.
+    // id and optimistic lock version change with every committed update of the order
+    private static String orderETag(Long id, Long version) {
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
     private String currentPath() {
-        return ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+        return RequestPaths.currentUrl();
     }
 
 }
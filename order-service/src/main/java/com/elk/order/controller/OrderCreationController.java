@@ -0,0 +1,63 @@
+package com.elk.order.controller;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.util.RequestPaths;
+import com.elk.order.dto.OrderRequest;
+import com.elk.order.dto.OrderResponse;
+import com.elk.order.service.IdempotencyService;
+import com.elk.order.service.OrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Blocking POST /api/v1/orders, replaced by ReactiveOrderCreationController when order.reactive.enabled=true
+@RestController
+@RequestMapping("/api/v1/orders")
+@ConditionalOnProperty(prefix = "order.reactive", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class OrderCreationController {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final OrderService orderservice;
+    private final IdempotencyService idempotencyService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<OrderResponse>> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest orderRequest
+            ) {
+        log.info("Creating order for customerId={}, idempotencyKey={}", orderRequest.customerId(), idempotencyKey);
+
+        OrderResponse orderResponse;
+        boolean replayed = false;
+        if (idempotencyKey == null) {
+            orderResponse = orderservice.createOrder(orderRequest);
+        } else {
+            IdempotencyService.IdempotentResult<OrderResponse> result = idempotencyService.execute(
+                    idempotencyKey, orderRequest, () -> orderservice.createOrder(orderRequest));
+            orderResponse = result.value();
+            replayed = result.replayed();
+        }
+
+        log.info("Order created successfully orderNumber={}, replayed={}", orderResponse.orderNumber(), replayed);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(replayed))
+                .body(ApiResponse.of(
+                   HttpStatus.CREATED,
+                   "Order created successfully",
+                   orderResponse, RequestPaths.currentUrl()
+                ));
+    }
+}
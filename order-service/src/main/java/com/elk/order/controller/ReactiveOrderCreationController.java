@@ -0,0 +1,61 @@
+package com.elk.order.controller;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.util.RequestPaths;
+import com.elk.order.dto.OrderRequest;
+import com.elk.order.dto.OrderResponse;
+import com.elk.order.service.IdempotencyService;
+import com.elk.order.service.ReactiveOrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import static com.elk.order.controller.OrderCreationController.IDEMPOTENCY_KEY_HEADER;
+import static com.elk.order.controller.OrderCreationController.IDEMPOTENT_REPLAYED_HEADER;
+
+// Same contract as OrderCreationController, but the request thread is released while products are resolved
+@RestController
+@RequestMapping("/api/v1/orders")
+@ConditionalOnProperty(prefix = "order.reactive", name = "enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveOrderCreationController {
+
+    private final ReactiveOrderService reactiveOrderService;
+    private final IdempotencyService idempotencyService;
+
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<OrderResponse>>> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderRequest orderRequest
+            ) {
+        log.info("Creating order for customerId={}, idempotencyKey={}", orderRequest.customerId(), idempotencyKey);
+        // Request attributes are bound to the servlet thread, read the path before the async hand-off
+        String path = RequestPaths.currentUrl();
+
+        Mono<IdempotencyService.IdempotentResult<OrderResponse>> result = idempotencyKey == null
+                ? reactiveOrderService.createOrder(orderRequest).map(order -> new IdempotencyService.IdempotentResult<>(order, false))
+                : Mono.fromFuture(() -> idempotencyService.executeAsync(
+                        idempotencyKey, orderRequest, () -> reactiveOrderService.createOrder(orderRequest).toFuture()));
+
+        return result.map(created -> {
+            log.info("Order created successfully orderNumber={}, replayed={}", created.value().orderNumber(), created.replayed());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(created.replayed()))
+                    .body(ApiResponse.of(
+                            HttpStatus.CREATED,
+                            "Order created successfully",
+                            created.value(), path
+                    ));
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.elk.order.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+// Orders are validated one by one in the service so a bad order fails alone, not the whole batch
+public record BatchOrderRequest(
+        @NotEmpty(message = "Batch must contain at least one order")
+        List<OrderRequest> orders
+) { }
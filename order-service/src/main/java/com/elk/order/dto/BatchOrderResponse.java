@@ -0,0 +1,10 @@
+package com.elk.order.dto;
+
+import java.util.List;
+
+public record BatchOrderResponse(
+        int total,
+        int succeeded,
+        int failed,
+        List<BatchOrderResult> results
+) { }
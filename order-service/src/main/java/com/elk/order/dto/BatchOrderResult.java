@@ -0,0 +1,21 @@
+package com.elk.order.dto;
+
+import java.math.BigDecimal;
+
+public record BatchOrderResult(
+        // Position of the order in the submitted batch
+        int index,
+        boolean success,
+        Long id,
+        String orderNumber,
+        BigDecimal totalAmount,
+        String error
+) {
+    public static BatchOrderResult created(int index, Long id, String orderNumber, BigDecimal totalAmount) {
+        return new BatchOrderResult(index, true, id, orderNumber, totalAmount, null);
+    }
+
+    public static BatchOrderResult failed(int index, String error) {
+        return new BatchOrderResult(index, false, null, null, null, error);
+    }
+}
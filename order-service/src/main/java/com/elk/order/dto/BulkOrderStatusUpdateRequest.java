@@ -0,0 +1,17 @@
+package com.elk.order.dto;
+
+import com.elk.order.entity.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkOrderStatusUpdateRequest(
+        @NotEmpty(message = "At least one order id is required")
+        @Size(max = 100000, message = "At most 100000 orders per request")
+        List<Long> orderIds,
+
+        @NotNull(message = "Target status is required")
+        OrderStatus status
+) { }
@@ -0,0 +1,9 @@
+package com.elk.order.dto;
+
+public record BulkOrderStatusUpdateResponse(
+        String status,
+        int requested,
+        int updated,
+        // Unknown ids and orders whose current status does not allow the transition
+        int skipped
+) { }
@@ -0,0 +1,14 @@
+package com.elk.order.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        // Opaque continuation token, pass back as ?cursor= to fetch the next page
+        String nextCursor
+) { }
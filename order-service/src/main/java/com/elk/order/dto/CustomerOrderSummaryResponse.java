@@ -0,0 +1,16 @@
+package com.elk.order.dto;
+
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder
+public record CustomerOrderSummaryResponse(
+        String customerId,
+        long orderCount,
+        BigDecimal totalSpend,
+        LocalDateTime lastOrderAt,
+        Map<String, Long> statusCounts
+) { }
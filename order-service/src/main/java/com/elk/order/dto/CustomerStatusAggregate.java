@@ -0,0 +1,22 @@
+package com.elk.order.dto;
+
+import com.elk.common.money.Money;
+import com.elk.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Orders of one customer in one status: count, amount and newest createdAt
+public record CustomerStatusAggregate(
+        String customerId,
+        OrderStatus status,
+        Long orderCount,
+        Money totalAmount,
+        LocalDateTime lastOrderAt
+) {
+    // Used by the JPQL constructor expression: SUM over the Money column yields the raw DECIMAL
+    public CustomerStatusAggregate(String customerId, OrderStatus status, Long orderCount,
+                                   BigDecimal totalAmount, LocalDateTime lastOrderAt) {
+        this(customerId, status, orderCount, Money.of(totalAmount), lastOrderAt);
+    }
+}
@@ -1,20 +0,0 @@
-package com.elk.order.dto;
-
-import lombok.Builder;
-import lombok.Data;
-
-import java.time.LocalDateTime;
-import java.util.Map;
-
-@Data
-@Builder
-public class ErrorResponse {
-    private LocalDateTime timestamp;
-    private int status;
-    private String error;
-    private String message;
-    private String path;
-
-    //For validation errors
-    private Map<String, String> fieldErrors;
-}
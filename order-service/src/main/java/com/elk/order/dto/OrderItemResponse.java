@@ -1,5 +1,6 @@
 package com.elk.order.dto;
 
+import com.elk.common.money.Money;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -13,4 +14,9 @@ public record OrderItemResponse(
         Integer quantity,
         BigDecimal totalPrice
 
-) { }
+) {
+    // Used by the JPQL constructor expression, where prices are already converted to Money
+    public OrderItemResponse(Long id, Long productId, String productName, Money price, Integer quantity, Money totalPrice) {
+        this(id, productId, productName, price.toBigDecimal(), quantity, totalPrice.toBigDecimal());
+    }
+}
@@ -0,0 +1,18 @@
+package com.elk.order.dto;
+
+import com.elk.common.money.Money;
+
+// Item projection carrying its orderId, used to attach items to many orders in one query
+public record OrderItemView(
+        Long orderId,
+        Long id,
+        Long productId,
+        String productName,
+        Money price,
+        Integer quantity,
+        Money totalPrice
+) {
+    public OrderItemResponse toResponse() {
+        return new OrderItemResponse(id, productId, productName, price.toBigDecimal(), quantity, totalPrice.toBigDecimal());
+    }
+}
@@ -12,6 +12,7 @@ public record OrderResponse(
         String customerId,
         String status,
         BigDecimal totalAmount,
+        Long version,
         List<OrderItemResponse> items,
         OrderAuditResponse audit
 ) {
@@ -0,0 +1,9 @@
+package com.elk.order.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record OrderStatsResponse(
+        Instant generatedAt,
+        List<OrderStatsWindow> windows
+) { }
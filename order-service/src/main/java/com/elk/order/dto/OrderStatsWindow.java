@@ -0,0 +1,15 @@
+package com.elk.order.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record OrderStatsWindow(
+        String window,
+        long seconds,
+        // Created orders per second over the window
+        double ordersPerSecond,
+        // Orders that entered each status within the window and their total amount
+        Map<String, StatusStats> statuses
+) {
+    public record StatusStats(long orders, BigDecimal amount) { }
+}
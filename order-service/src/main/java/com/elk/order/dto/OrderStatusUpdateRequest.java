@@ -0,0 +1,12 @@
+package com.elk.order.dto;
+
+import com.elk.order.entity.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record OrderStatusUpdateRequest(
+        @NotNull(message = "Target status is required")
+        OrderStatus status,
+
+        // Optional: version the client last saw, the transition fails with 409 if the order changed since
+        Long version
+) { }
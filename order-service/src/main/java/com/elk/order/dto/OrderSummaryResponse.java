@@ -1,13 +1,22 @@
 package com.elk.order.dto;
 
+import com.elk.common.money.Money;
 import com.elk.order.entity.OrderStatus;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 public record OrderSummaryResponse(
         Long id,
         String orderNumber,
         String customerId,
         OrderStatus status,
-        BigDecimal totalAmount
-) { }
+        BigDecimal totalAmount,
+        LocalDateTime createdAt
+) {
+    // Used by the JPQL constructor expression, where totalAmount is already converted to Money
+    public OrderSummaryResponse(Long id, String orderNumber, String customerId, OrderStatus status,
+                                Money totalAmount, LocalDateTime createdAt) {
+        this(id, orderNumber, customerId, status, totalAmount.toBigDecimal(), createdAt);
+    }
+}
@@ -0,0 +1,39 @@
+package com.elk.order.dto;
+
+import com.elk.common.money.Money;
+import com.elk.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Order header projection, combined with OrderItemView rows into an OrderResponse without managed entities
+public record OrderView(
+        Long id,
+        String orderNumber,
+        String customerId,
+        OrderStatus status,
+        Money totalAmount,
+        Long version,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime updatedAt,
+        String updatedBy
+) {
+    public OrderResponse toResponse(List<OrderItemResponse> items) {
+        return OrderResponse.builder()
+                .id(id)
+                .orderNumber(orderNumber)
+                .customerId(customerId)
+                .status(status.name())
+                .totalAmount(totalAmount.toBigDecimal())
+                .version(version)
+                .audit(OrderAuditResponse.builder()
+                        .createdBy(createdBy)
+                        .createdAt(createdAt)
+                        .updatedBy(updatedBy)
+                        .updatedAt(updatedAt)
+                        .build())
+                .items(items)
+                .build();
+    }
+}
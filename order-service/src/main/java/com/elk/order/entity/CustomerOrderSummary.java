@@ -0,0 +1,76 @@
+package com.elk.order.entity;
+
+import com.elk.common.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Per-customer order aggregates (read model). Kept up to date incrementally with atomic
+ * UPDATE ... SET x = x + :delta statements on order create and status change, and
+ * recomputable from the orders table.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "customer_order_summaries")
+public class CustomerOrderSummary {
+
+    @Id
+    private String customerId;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    // Lifetime spend over all orders that are not CANCELLED, in minor units so deltas are long additions
+    @Column(nullable = false)
+    private long totalSpendMinor;
+
+    private LocalDateTime lastOrderAt;
+
+    @Column(nullable = false)
+    private long createdCount;
+
+    @Column(nullable = false)
+    private long confirmedCount;
+
+    @Column(nullable = false)
+    private long cancelledCount;
+
+    @Column(nullable = false)
+    private long completedCount;
+
+    public static CustomerOrderSummary empty(String customerId) {
+        return CustomerOrderSummary.builder()
+                .customerId(customerId)
+                .build();
+    }
+
+    public Money getTotalSpend() {
+        return Money.ofMinor(totalSpendMinor);
+    }
+
+    // Custom override methods
+    @Override
+    public boolean equals(Object o){
+        if(this == o) return true;
+        if(o == null || getClass() != o.getClass()) return false;
+        CustomerOrderSummary summary = (CustomerOrderSummary) o;
+        return customerId != null && customerId.equals(summary.getCustomerId());
+    }
+
+    @Override
+    public int hashCode(){
+        return Objects.hash(customerId);
+    }
+
+    @Override
+    public String toString(){
+        return String.format("CustomerOrderSummary{customerId='%s', orderCount=%d}", customerId, orderCount);
+    }
+}
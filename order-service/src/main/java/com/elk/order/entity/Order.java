@@ -1,11 +1,11 @@
 package com.elk.order.entity;
 
+import com.elk.common.money.Money;
 import com.elk.order.common.entity.BaseAuditableEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
 
@@ -17,11 +17,17 @@ import java.util.Objects;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // Supports keyset pagination of order summaries, newest first
+        @Index(name = "idx_orders_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_orders_customer_id", columnList = "customer_id")
+})
 public class Order extends BaseAuditableEntity {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -34,7 +40,11 @@ public class Order extends BaseAuditableEntity {
     private OrderStatus status;
 
     @Column(nullable = false)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
+
+    // Optimistic locking for single-order status transitions
+    @Version
+    private Long version;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items;
@@ -1,9 +1,9 @@
 package com.elk.order.entity;
 
+import com.elk.common.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 
 @Entity
@@ -16,8 +16,10 @@ import java.util.Objects;
 @Table(name = "order_items")
 public class OrderItem {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -28,11 +30,11 @@ public class OrderItem {
 
     private String productName;
 
-    private BigDecimal price;
+    private Money price;
 
     private Integer quantity;
 
-    private BigDecimal totalPrice;
+    private Money totalPrice;
 
     // Custom override methods
     @Override
@@ -1,8 +1,25 @@
 package com.elk.order.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     CREATED,
     CONFIRMED,
     CANCELLED,
-    COMPLETED
+    COMPLETED;
+
+    // Statuses an order may move to this status from; CANCELLED and COMPLETED are terminal
+    public Set<OrderStatus> allowedPredecessors() {
+        return switch (this) {
+            case CREATED -> EnumSet.noneOf(OrderStatus.class);
+            case CONFIRMED -> EnumSet.of(CREATED);
+            case CANCELLED -> EnumSet.of(CREATED, CONFIRMED);
+            case COMPLETED -> EnumSet.of(CONFIRMED);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.allowedPredecessors().contains(this);
+    }
 }
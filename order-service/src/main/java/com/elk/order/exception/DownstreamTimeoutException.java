@@ -0,0 +1,8 @@
+package com.elk.order.exception;
+
+public class DownstreamTimeoutException extends RuntimeException {
+
+    public DownstreamTimeoutException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.elk.order.exception;
+
+public class DownstreamUnavailableException extends RuntimeException {
+
+    public DownstreamUnavailableException(String message){
+        super(message);
+    }
+}
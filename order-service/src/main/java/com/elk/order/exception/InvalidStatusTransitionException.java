@@ -0,0 +1,8 @@
+package com.elk.order.exception;
+
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(String message){
+        super(message);
+    }
+}
@@ -1,17 +1,23 @@
 package com.elk.order.exception.handler;
 
-import com.elk.order.dto.ErrorResponse;
+import com.elk.common.dto.ErrorResponse;
+import com.elk.order.exception.BadRequestException;
+import com.elk.order.exception.DownstreamTimeoutException;
+import com.elk.order.exception.DownstreamUnavailableException;
+import com.elk.order.exception.IdempotencyConflictException;
+import com.elk.order.exception.InvalidStatusTransitionException;
 import com.elk.order.exception.ResourceNotFoundException;
-import com.elk.order.util.MapperUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientException;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -24,7 +30,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
         log.error("Resource not found: {}, path={}", ex.getMessage(), request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.NOT_FOUND,
                 "NOT_FOUND",
                 ex.getMessage(),
@@ -33,6 +39,84 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    // Handle invalid client input detected in the service layer (400)
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException ex, HttpServletRequest request) {
+        log.warn("Bad request: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_REQUEST,
+                "BAD_REQUEST",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    // Handle Idempotency-Key reuse and in-flight duplicates (409)
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflict(IdempotencyConflictException ex, HttpServletRequest request) {
+        log.warn("Idempotency conflict: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.CONFLICT,
+                "IDEMPOTENCY_CONFLICT",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // Handle transitions the order state machine does not allow (409)
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTransition(InvalidStatusTransitionException ex, HttpServletRequest request) {
+        log.warn("Invalid status transition: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.CONFLICT,
+                "INVALID_STATUS_TRANSITION",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // Handle optimistic locking failures (409)
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(ObjectOptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent modification: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.CONFLICT,
+                "CONCURRENT_MODIFICATION",
+                "Order was modified concurrently, reload and retry",
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // Handle downstream deadline/capacity failures (504)
+    @ExceptionHandler(DownstreamTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleDownstreamTimeout(DownstreamTimeoutException ex, HttpServletRequest request) {
+        log.error("Downstream timeout: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.GATEWAY_TIMEOUT,
+                "DOWNSTREAM_TIMEOUT",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
+
+    // Handle downstream calls rejected by the circuit breaker or bulkhead (503)
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleDownstreamUnavailable(DownstreamUnavailableException ex, HttpServletRequest request) {
+        log.error("Downstream unavailable: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "DOWNSTREAM_UNAVAILABLE",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     // Handle @Valid field validation errors (400)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationError(MethodArgumentNotValidException ex, HttpServletRequest request){
@@ -40,7 +124,7 @@ public class GlobalExceptionHandler {
         ex.getBindingResult().getFieldErrors()
                 .forEach(err -> errors.put(err.getField(), err.getDefaultMessage()));
         log.error("Validation failed: {}, path={}", errors, request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "VALIDATION_FAILED",
                 "Input validation failed",
@@ -53,7 +137,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleJsonParsing(HttpMessageNotReadableException ex, HttpServletRequest request){
         log.error("JSON parsing error: {}, path={}", ex.getMessage(), request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "BAD_JSON",
                 "Malformed JSON request",
@@ -70,7 +154,7 @@ public class GlobalExceptionHandler {
                 violations.put(cv.getPropertyPath().toString(), cv.getMessage())
         );
         log.warn("Constraint violation: {}, path={}", violations, request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "CONSTRAINT_VIOLATION",
                 "Invalid request parameters",
@@ -84,7 +168,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneral(Exception ex, HttpServletRequest request){
         log.error("Unexpected error: {}, path={}", ex.getMessage(), request.getRequestURI(), ex);
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "INTERNAL_SERVER_ERROR",
                 ex.getMessage(),
@@ -101,7 +185,26 @@ public class GlobalExceptionHandler {
 
         log.error("Feign client error: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.BAD_GATEWAY,
+                "DOWNSTREAM_SERVICE_ERROR",
+                "Product service is unavailable",
+                request.getRequestURI(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(errorResponse);
+    }
+
+    // Handle webclient exceptions from the reactive creation path (502)
+    @ExceptionHandler(WebClientException.class)
+    public ResponseEntity<ErrorResponse> handleWebClientException(
+            WebClientException ex,
+            HttpServletRequest request) {
+
+        log.error("WebClient error: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_GATEWAY,
                 "DOWNSTREAM_SERVICE_ERROR",
                 "Product service is unavailable",
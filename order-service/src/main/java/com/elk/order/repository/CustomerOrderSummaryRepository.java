@@ -0,0 +1,60 @@
+package com.elk.order.repository;
+
+import com.elk.order.entity.CustomerOrderSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CustomerOrderSummaryRepository extends JpaRepository<CustomerOrderSummary, String> {
+
+    @Query("SELECT s.customerId FROM CustomerOrderSummary s WHERE s.customerId IN :customerIds")
+    List<String> findExistingIds(@Param("customerIds") Collection<String> customerIds);
+
+    // Row locks for a rebuild, taken in key order so they can not deadlock with delta updates
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CustomerOrderSummary s WHERE s.customerId IN :customerIds ORDER BY s.customerId")
+    List<CustomerOrderSummary> findAllForUpdate(@Param("customerIds") Collection<String> customerIds);
+
+    // Insert-if-absent in the caller's transaction, an existing row is left untouched
+    @Modifying
+    @Query(nativeQuery = true, value = """
+        MERGE INTO customer_order_summaries s
+        USING (SELECT CAST(:customerId AS VARCHAR(255)) AS customer_id) v
+        ON s.customer_id = v.customer_id
+        WHEN NOT MATCHED THEN
+            INSERT (customer_id, order_count, total_spend_minor, created_count, confirmed_count, cancelled_count, completed_count)
+            VALUES (v.customer_id, 0, 0, 0, 0, 0, 0)
+    """)
+    int insertIfAbsent(@Param("customerId") String customerId);
+
+    // Atomic increment, safe under concurrent orders of the same customer
+    @Modifying
+    @Query("""
+        UPDATE CustomerOrderSummary s
+        SET s.orderCount = s.orderCount + :orders,
+            s.totalSpendMinor = s.totalSpendMinor + :spendMinor,
+            s.lastOrderAt = CASE
+                WHEN :lastOrderAt IS NOT NULL AND (s.lastOrderAt IS NULL OR s.lastOrderAt < :lastOrderAt)
+                THEN :lastOrderAt ELSE s.lastOrderAt END,
+            s.createdCount = s.createdCount + :created,
+            s.confirmedCount = s.confirmedCount + :confirmed,
+            s.cancelledCount = s.cancelledCount + :cancelled,
+            s.completedCount = s.completedCount + :completed
+        WHERE s.customerId = :customerId
+    """)
+    int applyDelta(@Param("customerId") String customerId,
+                   @Param("orders") long orders,
+                   @Param("spendMinor") long spendMinor,
+                   @Param("lastOrderAt") LocalDateTime lastOrderAt,
+                   @Param("created") long created,
+                   @Param("confirmed") long confirmed,
+                   @Param("cancelled") long cancelled,
+                   @Param("completed") long completed);
+}
@@ -1,10 +1,12 @@
 package com.elk.order.repository;
 
 import com.elk.order.dto.OrderItemResponse;
+import com.elk.order.dto.OrderItemView;
 import com.elk.order.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
@@ -23,4 +25,20 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
         WHERE oi.order.id = :orderId
     """)
     List<OrderItemResponse> findItemsByOrderId(Long orderId);
+
+    @Query("""
+        SELECT new com.elk.order.dto.OrderItemView(
+            oi.order.id,
+            oi.id,
+            oi.productId,
+            oi.productName,
+            oi.price,
+            oi.quantity,
+            oi.totalPrice
+        )
+        FROM OrderItem oi
+        WHERE oi.order.id IN :orderIds
+        ORDER BY oi.order.id, oi.id
+    """)
+    List<OrderItemView> findItemsByOrderIds(Collection<Long> orderIds);
 }
@@ -1,16 +1,28 @@
 package com.elk.order.repository;
 
+import com.elk.order.dto.CustomerStatusAggregate;
 import com.elk.order.dto.OrderResponse;
 import com.elk.order.dto.OrderSummaryResponse;
+import com.elk.order.dto.OrderView;
 import com.elk.order.entity.Order;
 import com.elk.order.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -25,6 +37,10 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     """)
     Optional<Order> findByIdWithItems(Long orderId);
 
+    // Single column read by primary key, used to answer conditional GETs without loading the order
+    @Query("SELECT o.version FROM Order o WHERE o.id = :orderId")
+    Optional<Long> findVersionById(@Param("orderId") Long orderId);
+
     // Fetch by customer (with items)
     @Query("""
         SELECT DISTINCT o FROM Order o
@@ -33,8 +49,124 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     """)
     List<Order> findByCustomerIdWithItems(String customerId);
 
-    // Filter by status
-    List<Order> findByStatus(OrderStatus status);
+    // Filter by status: headers only, items are attached via OrderItemRepository.findItemsByOrderIds
+    @Query("""
+        SELECT new com.elk.order.dto.OrderView(
+            o.id,
+            o.orderNumber,
+            o.customerId,
+            o.status,
+            o.totalAmount,
+            o.version,
+            o.createdAt,
+            o.createdBy,
+            o.updatedAt,
+            o.updatedBy
+        )
+        FROM Order o
+        WHERE o.status = :status
+        ORDER BY o.id
+    """)
+    List<OrderView> findViewsByStatus(@Param("status") OrderStatus status);
+
+    // Rows pulled per JDBC round trip by the streaming export queries
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Forward-only streams for export; must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM Order o WHERE o.status = :status ORDER BY o.id")
+    Stream<Order> streamByStatus(@Param("status") OrderStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM Order o WHERE o.customerId = :customerId ORDER BY o.id")
+    Stream<Order> streamByCustomerId(@Param("customerId") String customerId);
+
+    // Set-based conditional transition: only orders currently in an allowed predecessor status move
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Order o
+        SET o.status = :target,
+            o.version = o.version + 1,
+            o.updatedAt = :updatedAt,
+            o.updatedBy = :updatedBy
+        WHERE o.id IN :orderIds
+          AND o.status IN :allowedFrom
+    """)
+    int transitionStatus(@Param("orderIds") Collection<Long> orderIds,
+                         @Param("allowedFrom") Collection<OrderStatus> allowedFrom,
+                         @Param("target") OrderStatus target,
+                         @Param("updatedAt") LocalDateTime updatedAt,
+                         @Param("updatedBy") String updatedBy);
+
+    // Locks the given orders that are in one of the given statuses, so they can not change
+    // between aggregating them and transitioning them (concurrent single-order updates wait)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status IN :statuses ORDER BY o.id")
+    List<Long> lockByIdsAndStatus(@Param("orderIds") Collection<Long> orderIds,
+                                  @Param("statuses") Collection<OrderStatus> statuses);
+
+    // Per customer/status aggregates of the given orders that are in one of the given statuses
+    @Query("""
+        SELECT new com.elk.order.dto.CustomerStatusAggregate(
+            o.customerId,
+            o.status,
+            COUNT(o),
+            SUM(o.totalAmount),
+            MAX(o.createdAt)
+        )
+        FROM Order o
+        WHERE o.id IN :orderIds
+          AND o.status IN :statuses
+        GROUP BY o.customerId, o.status
+    """)
+    List<CustomerStatusAggregate> aggregateByIdsAndStatus(@Param("orderIds") Collection<Long> orderIds,
+                                                          @Param("statuses") Collection<OrderStatus> statuses);
+
+    // Per customer/status aggregates over all orders of the given customers (read model rebuild)
+    @Query("""
+        SELECT new com.elk.order.dto.CustomerStatusAggregate(
+            o.customerId,
+            o.status,
+            COUNT(o),
+            SUM(o.totalAmount),
+            MAX(o.createdAt)
+        )
+        FROM Order o
+        WHERE o.customerId IN :customerIds
+        GROUP BY o.customerId, o.status
+    """)
+    List<CustomerStatusAggregate> aggregateByCustomerIds(@Param("customerIds") Collection<String> customerIds);
+
+    @Query("""
+        SELECT DISTINCT o.customerId FROM Order o
+        WHERE o.customerId > :afterCustomerId
+        ORDER BY o.customerId
+    """)
+    List<String> findCustomerIdsAfter(@Param("afterCustomerId") String afterCustomerId, Limit limit);
+
+    // Keyset pagination on (createdAt, id), served by idx_orders_created_at_id: no OFFSET, and the
+    // leading createdAt <= bound turns each page into a range scan starting at the cursor
+    @Query("""
+        SELECT new com.elk.order.dto.OrderSummaryResponse(
+            o.id,
+            o.orderNumber,
+            o.customerId,
+            o.status,
+            o.totalAmount,
+            o.createdAt
+        )
+        FROM Order o
+        ORDER BY o.createdAt DESC, o.id DESC
+    """)
+    List<OrderSummaryResponse> findFirstOrderSummaries(Limit limit);
 
     @Query("""
         SELECT new com.elk.order.dto.OrderSummaryResponse(
@@ -42,12 +174,17 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             o.orderNumber,
             o.customerId,
             o.status,
-            o.totalAmount
+            o.totalAmount,
+            o.createdAt
         )
         FROM Order o
-        ORDER BY o.createdAt DESC
+        WHERE o.createdAt <= :createdAt
+          AND (o.createdAt < :createdAt OR o.id < :id)
+        ORDER BY o.createdAt DESC, o.id DESC
     """)
-    List<OrderSummaryResponse> findAllOrderSummaries();
+    List<OrderSummaryResponse> findOrderSummariesAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("id") Long id,
+                                                       Limit limit);
 
 
     @Query("""
@@ -56,7 +193,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
         o.orderNumber,
         o.customerId,
         o.status,
-        o.totalAmount
+        o.totalAmount,
+        o.createdAt
     )
     FROM Order o
     WHERE o.id = :orderId
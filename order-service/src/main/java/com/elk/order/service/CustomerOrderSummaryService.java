@@ -0,0 +1,36 @@
+package com.elk.order.service;
+
+import com.elk.order.dto.CustomerOrderSummaryResponse;
+import com.elk.order.dto.CustomerStatusAggregate;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderStatus;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CustomerOrderSummaryService {
+
+    CustomerOrderSummaryResponse getSummary(String customerId);
+
+    /**
+     * Creates the missing summary rows of these customers. Called before the order write
+     * transaction, so row creation never needs a second connection while one is held.
+     */
+    void ensureSummaries(Collection<String> customerIds);
+
+    // The record* methods join the caller's write transaction
+    void recordCreated(Collection<Order> orders);
+
+    void recordStatusChange(Order order, OrderStatus from);
+
+    void recordStatusChanges(List<CustomerStatusAggregate> moved, OrderStatus to);
+
+    /**
+     * Recomputes every customer summary from the orders table, in batches of customers.
+     * Returns the number of customers rebuilt.
+     */
+    int rebuild();
+
+    // Recomputes the summaries of these customers only, e.g. after a bulk update that could not be applied as deltas
+    void rebuild(Collection<String> customerIds);
+}
@@ -0,0 +1,21 @@
+package com.elk.order.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Runs the action once per key and replays its result for later calls with the same key.
+     * Concurrent calls with the same key wait for the first one instead of running the action again.
+     */
+    <T> IdempotentResult<T> execute(String key, Object request, Supplier<T> action);
+
+    /**
+     * Non-blocking variant of {@link #execute}: the action returns a future and duplicates
+     * are completed from the first call's future instead of parking a thread on it.
+     */
+    <T> CompletableFuture<IdempotentResult<T>> executeAsync(String key, Object request, Supplier<CompletableFuture<T>> action);
+
+    record IdempotentResult<T>(T value, boolean replayed) { }
+}
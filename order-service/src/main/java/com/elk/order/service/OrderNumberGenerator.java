@@ -0,0 +1,9 @@
+package com.elk.order.service;
+
+public interface OrderNumberGenerator {
+
+    /**
+     * Returns a new order number, unique across all order-service instances.
+     */
+    String nextOrderNumber();
+}
@@ -1,22 +1,55 @@
 package com.elk.order.service;
 
+import com.elk.order.dto.BatchOrderResponse;
+import com.elk.order.dto.BulkOrderStatusUpdateRequest;
+import com.elk.order.dto.BulkOrderStatusUpdateResponse;
+import com.elk.order.dto.CursorPageResponse;
 import com.elk.order.dto.OrderRequest;
 import com.elk.order.dto.OrderResponse;
+import com.elk.order.dto.OrderStatusUpdateRequest;
 import com.elk.order.dto.OrderSummaryResponse;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.entity.OrderStatus;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface OrderService {
 
     OrderResponse createOrder(OrderRequest request);
 
+    /**
+     * Creates the order from products that were already resolved by the caller.
+     * Only the write transaction runs here, used by the reactive creation path.
+     */
+    OrderResponse createOrder(OrderRequest request, Map<Long, ProductResponse> products);
+
+    BatchOrderResponse createOrders(List<OrderRequest> requests);
+
     OrderResponse getOrderById(Long orderId);
 
+    /**
+     * Current version of the order, without loading it or its items.
+     */
+    Long getOrderVersion(Long orderId);
+
+    /**
+     * Id, status and total of the order in a single-row projection, without its items or audit data.
+     */
+    OrderSummaryResponse getOrderSummary(Long orderId);
+
+    OrderResponse updateOrderStatus(Long orderId, OrderStatusUpdateRequest request);
+
+    BulkOrderStatusUpdateResponse updateOrderStatuses(BulkOrderStatusUpdateRequest request);
+
     OrderResponse getOrderByOrderNumber(String orderNumber);
 
     List<OrderResponse> findByCustomerId(String customerId);
 
     List<OrderResponse> findByOrderStatus(String orderStatus);
 
-    List<OrderSummaryResponse> findAllOrderSummaries();
+    void exportOrders(OrderStatus status, String customerId, Consumer<OrderResponse> sink);
+
+    CursorPageResponse<OrderSummaryResponse> findOrderSummaries(String cursor, Integer size);
 }
@@ -0,0 +1,18 @@
+package com.elk.order.service;
+
+import com.elk.order.dto.OrderStatsResponse;
+import com.elk.order.entity.OrderStatus;
+
+public interface OrderStatsService {
+
+    /**
+     * Records orders entering the given status. Amounts are in minor units (cents).
+     * Called on the request hot path, so it must never block or touch the database.
+     */
+    void record(OrderStatus status, long orders, long amountMinor);
+
+    /**
+     * Order counts and revenue per status over the 1m, 5m and 1h sliding windows.
+     */
+    OrderStatsResponse snapshot();
+}
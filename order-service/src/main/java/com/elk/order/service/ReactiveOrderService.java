@@ -0,0 +1,14 @@
+package com.elk.order.service;
+
+import com.elk.order.dto.OrderRequest;
+import com.elk.order.dto.OrderResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveOrderService {
+
+    /**
+     * Resolves the products without blocking a request thread, then runs the
+     * order write on the bounded order-write scheduler.
+     */
+    Mono<OrderResponse> createOrder(OrderRequest request);
+}
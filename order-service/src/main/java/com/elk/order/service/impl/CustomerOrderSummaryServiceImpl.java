@@ -0,0 +1,234 @@
+package com.elk.order.service.impl;
+
+import com.elk.common.money.Money;
+import com.elk.order.dto.CustomerOrderSummaryResponse;
+import com.elk.order.dto.CustomerStatusAggregate;
+import com.elk.order.entity.CustomerOrderSummary;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.repository.CustomerOrderSummaryRepository;
+import com.elk.order.repository.OrderRepository;
+import com.elk.order.service.CustomerOrderSummaryService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+@Service
+@Slf4j
+@Transactional
+public class CustomerOrderSummaryServiceImpl implements CustomerOrderSummaryService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final CustomerOrderSummaryRepository summaryRepository;
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public CustomerOrderSummaryServiceImpl(CustomerOrderSummaryRepository summaryRepository,
+                                           OrderRepository orderRepository,
+                                           EntityManager entityManager,
+                                           PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.orderRepository = orderRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerOrderSummaryResponse getSummary(String customerId) {
+        CustomerOrderSummary summary = summaryRepository.findById(customerId)
+                .orElseGet(() -> CustomerOrderSummary.empty(customerId));
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        statusCounts.put(OrderStatus.CREATED.name(), summary.getCreatedCount());
+        statusCounts.put(OrderStatus.CONFIRMED.name(), summary.getConfirmedCount());
+        statusCounts.put(OrderStatus.CANCELLED.name(), summary.getCancelledCount());
+        statusCounts.put(OrderStatus.COMPLETED.name(), summary.getCompletedCount());
+        return CustomerOrderSummaryResponse.builder()
+                .customerId(customerId)
+                .orderCount(summary.getOrderCount())
+                .totalSpend(summary.getTotalSpend().toBigDecimal())
+                .lastOrderAt(summary.getLastOrderAt())
+                .statusCounts(statusCounts)
+                .build();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void ensureSummaries(Collection<String> customerIds) {
+        Set<String> missing = new LinkedHashSet<>(customerIds);
+        // Own short transaction: a bare query here would pin a connection until this method returns
+        transactionTemplate.execute(status -> summaryRepository.findExistingIds(missing)).forEach(missing::remove);
+        missing.forEach(this::createRow);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<Order> orders) {
+        Map<String, Delta> deltas = new TreeMap<>();
+        for (Order order : orders) {
+            Delta delta = deltas.computeIfAbsent(order.getCustomerId(), id -> new Delta());
+            delta.orders++;
+            delta.spend = delta.spend.plus(order.getTotalAmount());
+            delta.lastOrderAt = max(delta.lastOrderAt, order.getCreatedAt());
+            delta.statusCounts.merge(order.getStatus(), 1L, Long::sum);
+        }
+        deltas.forEach(this::apply);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Order order, OrderStatus from) {
+        Delta delta = new Delta();
+        delta.move(from, order.getStatus(), 1, order.getTotalAmount());
+        apply(order.getCustomerId(), delta);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(List<CustomerStatusAggregate> moved, OrderStatus to) {
+        Map<String, Delta> deltas = new TreeMap<>();
+        for (CustomerStatusAggregate aggregate : moved) {
+            deltas.computeIfAbsent(aggregate.customerId(), id -> new Delta())
+                    .move(aggregate.status(), to, aggregate.orderCount(), aggregate.totalAmount());
+        }
+        deltas.forEach(this::apply);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        log.info("Rebuilding customer order summaries");
+        int rebuilt = 0;
+        String after = "";
+        while (true) {
+            List<String> customerIds = orderRepository.findCustomerIdsAfter(after, Limit.of(REBUILD_BATCH_SIZE));
+            if (customerIds.isEmpty()) {
+                break;
+            }
+            rebuildBatch(customerIds);
+            rebuilt += customerIds.size();
+            after = customerIds.get(customerIds.size() - 1);
+        }
+        log.info("Rebuilt customer order summaries for {} customers", rebuilt);
+        return rebuilt;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuild(Collection<String> customerIds) {
+        if (!customerIds.isEmpty()) {
+            rebuildBatch(new TreeSet<>(customerIds));
+        }
+    }
+
+    private void rebuildBatch(Collection<String> customerIds) {
+        ensureSummaries(customerIds);
+        // One short transaction per batch of customers
+        transactionTemplate.executeWithoutResult(status -> recompute(customerIds));
+    }
+
+    // Rows are locked before the orders are aggregated: a delta committed before the lock is in the
+    // aggregate, one committed after it waits and is applied on top of the recomputed counts
+    private void recompute(Collection<String> customerIds) {
+        Map<String, CustomerOrderSummary> summaries = new LinkedHashMap<>();
+        for (CustomerOrderSummary summary : summaryRepository.findAllForUpdate(customerIds)) {
+            summary.setOrderCount(0);
+            summary.setTotalSpendMinor(0);
+            summary.setLastOrderAt(null);
+            summary.setCreatedCount(0);
+            summary.setConfirmedCount(0);
+            summary.setCancelledCount(0);
+            summary.setCompletedCount(0);
+            summaries.put(summary.getCustomerId(), summary);
+        }
+        for (CustomerStatusAggregate aggregate : orderRepository.aggregateByCustomerIds(customerIds)) {
+            CustomerOrderSummary summary = summaries.get(aggregate.customerId());
+            summary.setOrderCount(summary.getOrderCount() + aggregate.orderCount());
+            if (aggregate.status() != OrderStatus.CANCELLED) {
+                summary.setTotalSpendMinor(summary.getTotalSpendMinor() + aggregate.totalAmount().minorUnits());
+            }
+            summary.setLastOrderAt(max(summary.getLastOrderAt(), aggregate.lastOrderAt()));
+            switch (aggregate.status()) {
+                case CREATED -> summary.setCreatedCount(aggregate.orderCount());
+                case CONFIRMED -> summary.setConfirmedCount(aggregate.orderCount());
+                case CANCELLED -> summary.setCancelledCount(aggregate.orderCount());
+                case COMPLETED -> summary.setCompletedCount(aggregate.orderCount());
+            }
+        }
+        // The locked rows are managed, dirty checking writes them on commit
+    }
+
+    private void apply(String customerId, Delta delta) {
+        int updated = applyDelta(customerId, delta);
+        if (updated == 0) {
+            // Normally created up front by ensureSummaries; created here in the same transaction otherwise
+            summaryRepository.insertIfAbsent(customerId);
+            applyDelta(customerId, delta);
+        }
+    }
+
+    private int applyDelta(String customerId, Delta delta) {
+        return summaryRepository.applyDelta(customerId, delta.orders, delta.spend.minorUnits(), delta.lastOrderAt,
+                delta.count(OrderStatus.CREATED), delta.count(OrderStatus.CONFIRMED),
+                delta.count(OrderStatus.CANCELLED), delta.count(OrderStatus.COMPLETED));
+    }
+
+    private void createRow(String customerId) {
+        try {
+            // Own transaction, called with none active: a concurrent first order of the same customer
+            // then fails this insert instead of rolling back the caller's order
+            transactionTemplate.executeWithoutResult(status ->
+                    // persist, not save: save() would merge and reset a row created concurrently
+                    entityManager.persist(CustomerOrderSummary.empty(customerId)));
+        } catch (DataIntegrityViolationException ex) {
+            // Another request created the row first
+            log.debug("Customer summary row already created customerId={}", customerId);
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    // Change to apply to one customer's summary
+    private static final class Delta {
+        private long orders;
+        private Money spend = Money.ZERO;
+        private LocalDateTime lastOrderAt;
+        private final Map<OrderStatus, Long> statusCounts = new EnumMap<>(OrderStatus.class);
+
+        private void move(OrderStatus from, OrderStatus to, long count, Money amount) {
+            statusCounts.merge(from, -count, Long::sum);
+            statusCounts.merge(to, count, Long::sum);
+            // Cancelled orders do not count towards spend
+            if (to == OrderStatus.CANCELLED && from != OrderStatus.CANCELLED) {
+                spend = spend.minus(amount);
+            }
+        }
+
+        private long count(OrderStatus status) {
+            return statusCounts.getOrDefault(status, 0L);
+        }
+    }
+}
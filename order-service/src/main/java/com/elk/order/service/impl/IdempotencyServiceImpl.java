@@ -0,0 +1,169 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.config.IdempotencyProperties;
+import com.elk.order.exception.BadRequestException;
+import com.elk.order.exception.IdempotencyConflictException;
+import com.elk.order.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    // Canonical JSON of a request body: properties and map entries in a fixed order
+    private final ObjectMapper canonicalMapper;
+    // Bounded, expiring store; in-flight requests are stored too so duplicates can join them
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyServiceImpl(IdempotencyProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.canonicalMapper = objectMapper.copy();
+        canonicalMapper.setConfig(canonicalMapper.getSerializationConfig()
+                .with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .build();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> IdempotentResult<T> execute(String key, Object request, Supplier<T> action) {
+        validateKey(key);
+
+        Entry created = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, created);
+        if (existing == null) {
+            return new IdempotentResult<>(runOnce(key, created, action), false);
+        }
+
+        checkFingerprint(key, existing, created);
+        log.info("Replaying response for Idempotency-Key={}", key);
+        return new IdempotentResult<>((T) await(key, existing), true);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<IdempotentResult<T>> executeAsync(String key, Object request,
+                                                                   Supplier<CompletableFuture<T>> action) {
+        validateKey(key);
+
+        Entry created = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, created);
+        if (existing == null) {
+            return runOnceAsync(key, created, action).thenApply(value -> new IdempotentResult<>(value, false));
+        }
+
+        checkFingerprint(key, existing, created);
+        log.info("Replaying response for Idempotency-Key={}", key);
+        // copy(): the timeout must only fail this duplicate, not the shared in-flight entry
+        return existing.result().copy()
+                .orTimeout(properties.inFlightWaitTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .handle((value, error) -> {
+                    if (error == null) {
+                        return new IdempotentResult<>((T) value, true);
+                    }
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof TimeoutException) {
+                        throw new IdempotencyConflictException("Request with Idempotency-Key " + key + " is still in progress");
+                    }
+                    throw cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+                });
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private void checkFingerprint(String key, Entry existing, Entry request) {
+        if (!existing.fingerprint().equals(request.fingerprint())) {
+            throw new IdempotencyConflictException("Idempotency-Key " + key + " was already used with a different request");
+        }
+    }
+
+    // SHA-256 of the canonical JSON body: equal bodies match, different ones practically never collide
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonicalMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Could not fingerprint request for Idempotency-Key", ex);
+        }
+    }
+
+    private <T> T runOnce(String key, Entry entry, Supplier<T> action) {
+        try {
+            T result = action.get();
+            entry.result().complete(result);
+            return result;
+        } catch (Throwable ex) {
+            // Errors too: a never completed entry would keep every retry of the key waiting.
+            // Failed attempts are not remembered, the client may retry with the same key
+            entries.asMap().remove(key, entry);
+            entry.result().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private <T> CompletableFuture<T> runOnceAsync(String key, Entry entry, Supplier<CompletableFuture<T>> action) {
+        CompletableFuture<T> result;
+        try {
+            result = action.get();
+        } catch (Throwable ex) {
+            entries.asMap().remove(key, entry);
+            entry.result().completeExceptionally(ex);
+            throw ex;
+        }
+        return result.whenComplete((value, error) -> {
+            if (error != null) {
+                // Failed attempts are not remembered, the client may retry with the same key
+                entries.asMap().remove(key, entry);
+                entry.result().completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                entry.result().complete(value);
+            }
+        });
+    }
+
+    private Object await(String key, Entry entry) {
+        try {
+            return entry.result().get(properties.inFlightWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new IdempotencyConflictException("Request with Idempotency-Key " + key + " is still in progress");
+        } catch (ExecutionException ex) {
+            // The first attempt failed: surface the same error to the waiting duplicate
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Idempotency-Key " + key, ex);
+        }
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> result) { }
+}
@@ -1,22 +1,55 @@
 package com.elk.order.service.impl;
 
-import com.elk.order.client.ProductClient;
+import com.elk.common.money.Money;
+import com.elk.order.client.ProductResolver;
+import com.elk.order.config.BatchOrderProperties;
+import com.elk.order.config.PaginationProperties;
 import com.elk.order.dto.*;
 import com.elk.order.entity.Order;
 import com.elk.order.entity.OrderItem;
 import com.elk.order.entity.OrderStatus;
+import com.elk.order.exception.BadRequestException;
+import com.elk.order.exception.DownstreamTimeoutException;
+import com.elk.order.exception.DownstreamUnavailableException;
+import com.elk.order.exception.InvalidStatusTransitionException;
 import com.elk.order.exception.ResourceNotFoundException;
 import com.elk.order.repository.OrderItemRepository;
 import com.elk.order.repository.OrderRepository;
+import com.elk.order.service.CustomerOrderSummaryService;
+import com.elk.order.service.OrderNumberGenerator;
 import com.elk.order.service.OrderService;
+import com.elk.order.service.OrderStatsService;
+import com.elk.order.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -24,80 +57,252 @@ import java.util.UUID;
 @Transactional
 public class OrderServiceImpl implements OrderService {
 
+    private static final int ITEM_LOOKUP_CHUNK = 1000;
+    private static final int STATUS_UPDATE_CHUNK = 1000;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository itemRepository;
-    private final ProductClient productClient;
+    private final ProductResolver productResolver;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final PaginationProperties paginationProperties;
+    private final BatchOrderProperties batchOrderProperties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final AuditorAware<String> auditorAware;
+    private final CustomerOrderSummaryService customerOrderSummaryService;
+    private final OrderStatsService orderStatsService;
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public OrderResponse createOrder(OrderRequest request) {
         log.info("Creating order for customerId={}", request.customerId());
-        // Build Order
-        Order order = Order.builder()
-                .orderNumber(generateOrderNumber())
-                .customerId(request.customerId())
-                .status(OrderStatus.CREATED)
-                .totalAmount(BigDecimal.ZERO)
-                .build();
-
-        // Build Order Items
-        List<OrderItem> orderItems = request.items().stream()
-                .map(item -> buildOrderItem(item, order))
-                .toList();
+        // Phase 1, no transaction: resolve all products of the cart (batch or parallel, see order.product-lookup)
+        // so no JDBC connection is held while waiting on product-service
+        Map<Long, ProductResponse> products = getProductsFromProductService(request.items());
+        return createOrder(request, products);
+    }
 
-        // Set Items & total amount to Order
-        order.setItems(orderItems);
-        order.setTotalAmount(calculateTotalAmount(orderItems));
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderResponse createOrder(OrderRequest request, Map<Long, ProductResponse> products) {
+        // Build Order with its items & total amount
+        Order order = buildOrder(request, products);
+        customerOrderSummaryService.ensureSummaries(List.of(order.getCustomerId()));
 
-        // Save Order
-        Order savedOrder = orderRepository.save(order);
+        // Phase 2, short write transaction: only the order and item inserts
+        Order savedOrder = transactionTemplate.execute(status -> {
+            Order saved = orderRepository.save(order);
+            customerOrderSummaryService.recordCreated(List.of(saved));
+            recordStatsAfterCommit(OrderStatus.CREATED, List.of(saved));
+            return saved;
+        });
         log.info("Order created successfully orderId={}, OrderNumber={}",
                 savedOrder.getId(), savedOrder.getOrderNumber());
 
-        // Convert to Order Response
+        // Convert to Order Response (items are already in memory, no lazy loading)
         return mapToOrderResponse(savedOrder);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchOrderResponse createOrders(List<OrderRequest> requests) {
+        if (requests.size() > batchOrderProperties.maxOrders()) {
+            throw new BadRequestException("Batch exceeds the maximum of " + batchOrderProperties.maxOrders() + " orders");
+        }
+        log.info("Creating batch of {} orders", requests.size());
+        BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+
+        // Validate per order: an invalid order is reported, the rest of the batch continues
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            String violations = validate(requests.get(index));
+            if (violations == null) {
+                validIndexes.add(index);
+            } else {
+                results[index] = BatchOrderResult.failed(index, violations);
+            }
+        }
+
+        // Resolve every product referenced by the batch once
+        Set<Long> productIds = validIndexes.stream()
+                .flatMap(index -> requests.get(index).items().stream())
+                .map(OrderItemRequest::productId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, ProductResponse> products = productIds.isEmpty() ? Map.of() : productResolver.resolveAvailable(productIds);
+
+        List<Integer> pricedIndexes = new ArrayList<>(validIndexes.size());
+        for (Integer index : validIndexes) {
+            Long missing = requests.get(index).items().stream()
+                    .map(OrderItemRequest::productId)
+                    .filter(productId -> !products.containsKey(productId))
+                    .findFirst()
+                    .orElse(null);
+            if (missing == null) {
+                pricedIndexes.add(index);
+            } else {
+                results[index] = BatchOrderResult.failed(index, "Product not found with id=" + missing);
+            }
+        }
+
+        // Persist in chunked transactions so each commit carries one JDBC batch of orders and items
+        for (int from = 0; from < pricedIndexes.size(); from += batchOrderProperties.chunkSize()) {
+            List<Integer> chunk = pricedIndexes.subList(from, Math.min(from + batchOrderProperties.chunkSize(), pricedIndexes.size()));
+            persistChunk(chunk, requests, products, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(BatchOrderResult::success).count();
+        log.info("Batch of {} orders processed succeeded={}, failed={}", requests.size(), succeeded, requests.size() - succeeded);
+        return new BatchOrderResponse(requests.size(), succeeded, requests.size() - succeeded, List.of(results));
+    }
+
+    private void persistChunk(List<Integer> chunk, List<OrderRequest> requests,
+                              Map<Long, ProductResponse> products, BatchOrderResult[] results) {
+        customerOrderSummaryService.ensureSummaries(chunk.stream()
+                .map(index -> requests.get(index).customerId())
+                .toList());
+        try {
+            List<Order> saved = transactionTemplate.execute(status -> {
+                List<Order> orders = orderRepository.saveAll(chunk.stream()
+                        .map(index -> buildOrder(requests.get(index), products))
+                        .toList());
+                entityManager.flush();
+                // Each summary UPDATE auto-flushes: detach the written chunk so it is not dirty-checked every time
+                entityManager.clear();
+                customerOrderSummaryService.recordCreated(orders);
+                recordStatsAfterCommit(OrderStatus.CREATED, orders);
+                return orders;
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                Order order = saved.get(i);
+                results[chunk.get(i)] = BatchOrderResult.created(chunk.get(i), order.getId(), order.getOrderNumber(), order.getTotalAmount().toBigDecimal());
+            }
+        } catch (RuntimeException ex) {
+            // Retry the chunk order by order to isolate the failing ones
+            log.warn("Batch chunk of {} orders failed, retrying individually: {}", chunk.size(), ex.getMessage());
+            entityManager.clear();
+            for (Integer index : chunk) {
+                try {
+                    Order order = transactionTemplate.execute(status -> {
+                        Order saved = orderRepository.saveAndFlush(buildOrder(requests.get(index), products));
+                        customerOrderSummaryService.recordCreated(List.of(saved));
+                        recordStatsAfterCommit(OrderStatus.CREATED, List.of(saved));
+                        return saved;
+                    });
+                    results[index] = BatchOrderResult.created(index, order.getId(), order.getOrderNumber(), order.getTotalAmount().toBigDecimal());
+                } catch (RuntimeException orderEx) {
+                    log.warn("Batch order at index {} could not be created", index, orderEx);
+                    results[index] = BatchOrderResult.failed(index, batchFailureMessage(orderEx));
+                }
+            }
+        } finally {
+            // Drop the chunk from the persistence context so memory does not grow with the batch
+            entityManager.clear();
+        }
+    }
+
+    // Batch results go back to the client: a fixed message per known failure, never the JDBC/Hibernate text
+    private static String batchFailureMessage(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return "Order failed validation";
+            }
+            if (cause instanceof DataIntegrityViolationException) {
+                return "Order conflicts with existing data";
+            }
+            if (cause instanceof DownstreamUnavailableException || cause instanceof DownstreamTimeoutException) {
+                return "Product service unavailable, retry later";
+            }
+        }
+        return "Order could not be created";
+    }
+
+    private String validate(OrderRequest request) {
+        if (request == null) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<OrderRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
 
     // ----------------- Helpers -----------------
-    private String generateOrderNumber() {
-        return "ORD-"+ UUID.randomUUID().toString().substring(0,8);
+    private Order buildOrder(OrderRequest request, Map<Long, ProductResponse> products) {
+        Order order = Order.builder()
+                .orderNumber(orderNumberGenerator.nextOrderNumber())
+                .customerId(request.customerId())
+                .status(OrderStatus.CREATED)
+                .build();
+
+        List<OrderItem> orderItems = request.items().stream()
+                .map(item -> buildOrderItem(item, order, products.get(item.productId())))
+                .toList();
+
+        order.setItems(orderItems);
+        order.setTotalAmount(calculateTotalAmount(orderItems));
+        return order;
     }
 
-    private OrderItem buildOrderItem(OrderItemRequest itemRequest, Order order) {
-        // Calculate total price for that item
-        ProductResponse productResponse = getProductFromProductService(itemRequest.productId()).getData();
-        log.info("Product response from the feign call : {} ", productResponse);
-        BigDecimal totalPrice = productResponse.price().multiply(BigDecimal.valueOf(itemRequest.quantity()));
+    private OrderItem buildOrderItem(OrderItemRequest itemRequest, Order order, ProductResponse productResponse) {
+        // Prices from product-service are rounded half-even to the minor unit once; the line total is exact
+        Money price = Money.of(productResponse.price(), RoundingMode.HALF_EVEN);
         return OrderItem.builder()
                 .order(order)
                 .productId(itemRequest.productId())
                 .productName(productResponse.name())
-                .price(productResponse.price())
+                .price(price)
                 .quantity(itemRequest.quantity())
-                .totalPrice(totalPrice)
+                .totalPrice(price.times(itemRequest.quantity()))
                 .build();
     }
 
-    private BigDecimal calculateTotalAmount(List<OrderItem> orderItems) {
-        return orderItems.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private void recordStatsAfterCommit(OrderStatus status, List<Order> orders) {
+        long amount = orders.stream().mapToLong(order -> order.getTotalAmount().minorUnits()).sum();
+        afterCommit(() -> orderStatsService.record(status, orders.size(), amount));
+    }
+
+    // Stats only count committed changes; a rolled back chunk or a lost version race is not reported
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private Money calculateTotalAmount(List<OrderItem> orderItems) {
+        Money total = Money.ZERO;
+        for (OrderItem item : orderItems) {
+            total = total.plus(item.getTotalPrice());
+        }
+        return total;
     }
 
     private OrderResponse mapToOrderResponse(Order order) {
+        return mapToOrderResponse(order, mapToOrderItemResponse(order.getItems()));
+    }
+
+    private OrderResponse mapToOrderResponse(Order order, List<OrderItemResponse> items) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .orderNumber(order.getOrderNumber())
                 .customerId(order.getCustomerId())
                 .status(order.getStatus().name())
-                .totalAmount(order.getTotalAmount())
+                .totalAmount(order.getTotalAmount().toBigDecimal())
+                .version(order.getVersion())
                 .audit(OrderAuditResponse.builder()
                         .createdBy(order.getCreatedBy())
                         .createdAt(order.getCreatedAt())
                         .updatedBy(order.getUpdatedBy())
                         .updatedAt(order.getUpdatedAt())
                         .build())
-                .items(mapToOrderItemResponse(order.getItems()))
+                .items(items)
                 .build();
     }
 
@@ -108,17 +313,84 @@ public class OrderServiceImpl implements OrderService {
                                 .id(item.getId())
                                 .productId(item.getProductId())
                                 .productName(item.getProductName())
-                                .price(item.getPrice())
+                                .price(item.getPrice().toBigDecimal())
                                 .quantity(item.getQuantity())
-                                .totalPrice(item.getTotalPrice())
+                                .totalPrice(item.getTotalPrice().toBigDecimal())
                                 .build()
                     )
                 .toList();
     }
 
-    private ApiResponse<ProductResponse> getProductFromProductService(Long productId){
-        //TODO: Replace with Product Service REST/Feign call
-        return productClient.getProductById (productId);
+    private Map<Long, ProductResponse> getProductsFromProductService(List<OrderItemRequest> items){
+        // Dedupe so repeated lines of the same product are fetched once
+        Set<Long> productIds = items.stream()
+                .map(OrderItemRequest::productId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return productResolver.resolve(productIds);
+    }
+
+    @Override
+    public OrderResponse updateOrderStatus(Long orderId, OrderStatusUpdateRequest request) {
+        Order order = orderRepository.findByIdWithItems(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id="+orderId));
+        if (request.version() != null && !request.version().equals(order.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Order.class, orderId);
+        }
+        if (!order.getStatus().canTransitionTo(request.status())) {
+            throw new InvalidStatusTransitionException("Order " + orderId + " can not move from "
+                    + order.getStatus() + " to " + request.status());
+        }
+
+        OrderStatus previous = order.getStatus();
+        order.setStatus(request.status());
+        // Flush now so a concurrent change fails here (version check) and the response carries the new version
+        Order savedOrder = orderRepository.saveAndFlush(order);
+        customerOrderSummaryService.recordStatusChange(savedOrder, previous);
+        recordStatsAfterCommit(savedOrder.getStatus(), List.of(savedOrder));
+        log.info("Order status changed orderId={}, {} -> {}", orderId, previous, savedOrder.getStatus());
+        return mapToOrderResponse(savedOrder);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkOrderStatusUpdateResponse updateOrderStatuses(BulkOrderStatusUpdateRequest request) {
+        OrderStatus target = request.status();
+        Set<OrderStatus> allowedFrom = target.allowedPredecessors();
+        List<Long> orderIds = request.orderIds().stream().distinct().toList();
+        if (allowedFrom.isEmpty()) {
+            throw new InvalidStatusTransitionException("No order can move to " + target);
+        }
+
+        // One conditional UPDATE per chunk, each in its own short transaction; no entities are loaded
+        String updatedBy = auditorAware.getCurrentAuditor().orElse(null);
+        int updated = 0;
+        Set<String> drifted = new LinkedHashSet<>();
+        for (int from = 0; from < orderIds.size(); from += STATUS_UPDATE_CHUNK) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + STATUS_UPDATE_CHUNK, orderIds.size()));
+            Integer chunkUpdated = transactionTemplate.execute(status -> {
+                // Lock what can move, then capture it (per customer and source status) for the customer read model
+                orderRepository.lockByIdsAndStatus(chunk, allowedFrom);
+                List<CustomerStatusAggregate> moving = orderRepository.aggregateByIdsAndStatus(chunk, allowedFrom);
+                int changed = orderRepository.transitionStatus(chunk, allowedFrom, target, LocalDateTime.now(), updatedBy);
+                long movedOrders = moving.stream().mapToLong(CustomerStatusAggregate::orderCount).sum();
+                if (changed != movedOrders) {
+                    // Should not happen under the locks; deltas would be wrong, recompute these customers instead
+                    log.warn("Bulk status change to {} updated {} orders but aggregated {}, rebuilding their summaries",
+                            target, changed, movedOrders);
+                    moving.forEach(aggregate -> drifted.add(aggregate.customerId()));
+                    return changed;
+                }
+                customerOrderSummaryService.recordStatusChanges(moving, target);
+                long movedAmount = moving.stream().mapToLong(aggregate -> aggregate.totalAmount().minorUnits()).sum();
+                afterCommit(() -> orderStatsService.record(target, movedOrders, movedAmount));
+                return changed;
+            });
+            updated += chunkUpdated == null ? 0 : chunkUpdated;
+        }
+        customerOrderSummaryService.rebuild(drifted);
+
+        log.info("Bulk status change to {} requested={}, updated={}", target, orderIds.size(), updated);
+        return new BulkOrderStatusUpdateResponse(target.name(), orderIds.size(), updated, orderIds.size() - updated);
     }
 
     @Override
@@ -129,6 +401,20 @@ public class OrderServiceImpl implements OrderService {
         return mapToOrderResponse(order);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Long getOrderVersion(Long orderId) {
+        return orderRepository.findVersionById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id="+orderId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderSummaryResponse getOrderSummary(Long orderId) {
+        return orderRepository.findOrderSummaryById(orderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with id="+orderId));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public OrderResponse getOrderByOrderNumber(String orderNumber) {
@@ -149,15 +435,84 @@ public class OrderServiceImpl implements OrderService {
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponse> findByOrderStatus(String orderStatus) {
-        return orderRepository.findByStatus(OrderStatus.valueOf(orderStatus.toUpperCase()))
-                .stream()
-                .map(this::mapToOrderResponse)
+        // 1 header query + 1 item query per ITEM_LOOKUP_CHUNK orders, no lazy loading per order
+        List<OrderView> orders = orderRepository.findViewsByStatus(OrderStatus.valueOf(orderStatus.toUpperCase()));
+        Map<Long, List<OrderItemResponse>> itemsByOrder = findItemsByOrderIds(orders.stream().map(OrderView::id).toList());
+        return orders.stream()
+                .map(order -> order.toResponse(itemsByOrder.getOrDefault(order.id(), List.of())))
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<OrderSummaryResponse> findAllOrderSummaries() {
-        return orderRepository.findAllOrderSummaries();
+    public void exportOrders(OrderStatus status, String customerId, Consumer<OrderResponse> sink) {
+        long exported = 0;
+        try (Stream<Order> orders = status != null
+                ? orderRepository.streamByStatus(status)
+                : orderRepository.streamByCustomerId(customerId)) {
+            List<Order> chunk = new ArrayList<>(OrderRepository.EXPORT_FETCH_SIZE);
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == OrderRepository.EXPORT_FETCH_SIZE) {
+                    exported += writeChunk(chunk, sink);
+                }
+            }
+            exported += writeChunk(chunk, sink);
+        }
+        log.info("Exported {} orders status={}, customerId={}", exported, status, customerId);
+    }
+
+    // Attaches items to a chunk of orders with one query, emits them and detaches the chunk
+    private int writeChunk(List<Order> chunk, Consumer<OrderResponse> sink) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<OrderItemResponse>> itemsByOrder = findItemsByOrderIds(chunk.stream().map(Order::getId).toList());
+        for (Order order : chunk) {
+            sink.accept(mapToOrderResponse(order, itemsByOrder.getOrDefault(order.getId(), List.of())));
+        }
+        int written = chunk.size();
+        // Keep the persistence context (and heap) flat regardless of result size
+        entityManager.clear();
+        chunk.clear();
+        return written;
+    }
+
+    // Groups item projections by order, keeping each IN list within ITEM_LOOKUP_CHUNK ids
+    private Map<Long, List<OrderItemResponse>> findItemsByOrderIds(List<Long> orderIds) {
+        Map<Long, List<OrderItemResponse>> itemsByOrder = new HashMap<>();
+        for (int from = 0; from < orderIds.size(); from += ITEM_LOOKUP_CHUNK) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + ITEM_LOOKUP_CHUNK, orderIds.size()));
+            for (OrderItemView item : itemRepository.findItemsByOrderIds(chunk)) {
+                itemsByOrder.computeIfAbsent(item.orderId(), id -> new ArrayList<>()).add(item.toResponse());
+            }
+        }
+        return itemsByOrder;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderSummaryResponse> findOrderSummaries(String cursor, Integer size) {
+        int pageSize = paginationProperties.resolve(size);
+        // Fetch one extra row to know whether another page exists without a count query
+        Limit limit = Limit.of(pageSize + 1);
+        List<OrderSummaryResponse> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = orderRepository.findFirstOrderSummaries(limit);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            rows = orderRepository.findOrderSummariesAfter(position.createdAt(), position.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        OrderSummaryResponse last = content.isEmpty() ? null : content.get(content.size() - 1);
+        return CursorPageResponse.<OrderSummaryResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new KeysetCursor(last.createdAt(), last.id()).encode() : null)
+                .build();
     }
 }
@@ -0,0 +1,49 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.client.ReactiveProductResolver;
+import com.elk.order.dto.OrderItemRequest;
+import com.elk.order.dto.OrderRequest;
+import com.elk.order.dto.OrderResponse;
+import com.elk.order.exception.DownstreamTimeoutException;
+import com.elk.order.service.OrderService;
+import com.elk.order.service.ReactiveOrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(prefix = "order.reactive", name = "enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveOrderServiceImpl implements ReactiveOrderService {
+
+    private final ReactiveProductResolver productResolver;
+    private final OrderService orderService;
+    private final Scheduler orderWriteScheduler;
+
+    @Override
+    public Mono<OrderResponse> createOrder(OrderRequest request) {
+        log.info("Creating order reactively for customerId={}", request.customerId());
+        // Dedupe so repeated lines of the same product are fetched once
+        Set<Long> productIds = request.items().stream()
+                .map(OrderItemRequest::productId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return productResolver.resolve(productIds)
+                // The JPA write blocks: hop off the WebClient event loop onto the bounded write pool
+                .publishOn(orderWriteScheduler)
+                .map(products -> orderService.createOrder(request, products))
+                .onErrorMap(RejectedExecutionException.class, ex -> {
+                    log.error("Order write scheduler saturated, rejecting order for customerId={}", request.customerId());
+                    return new DownstreamTimeoutException("Order write capacity exhausted, retry later");
+                });
+    }
+}
@@ -0,0 +1,132 @@
+package com.elk.order.service.impl;
+
+import com.elk.common.money.Money;
+import com.elk.order.dto.OrderStatsResponse;
+import com.elk.order.dto.OrderStatsWindow;
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.service.OrderStatsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory order statistics over sliding windows, kept as a ring of one-second buckets
+ * covering the longest window. Each bucket holds striped {@link LongAdder} counters per status,
+ * so concurrent writers rarely contend, and amounts are summed as long minor units.
+ * Reading sums the buckets inside the window; the cost depends on the window, not on traffic.
+ * Counts are per instance and start empty after a restart.
+ */
+@Component
+public class SlidingWindowOrderStats implements OrderStatsService {
+
+    private static final Map<String, Duration> WINDOWS = windows();
+    private static final int SLOTS = (int) Duration.ofHours(1).toSeconds();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(SLOTS);
+
+    public SlidingWindowOrderStats() {
+        this(System::currentTimeMillis);
+    }
+
+    SlidingWindowOrderStats(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void record(OrderStatus status, long orders, long amountMinor) {
+        Bucket bucket = bucket(clock.getAsLong() / 1000);
+        bucket.orders[status.ordinal()].add(orders);
+        bucket.amounts[status.ordinal()].add(amountMinor);
+    }
+
+    @Override
+    public OrderStatsResponse snapshot() {
+        long nowMillis = clock.getAsLong();
+        long nowSecond = nowMillis / 1000;
+        List<OrderStatsWindow> result = new ArrayList<>(WINDOWS.size());
+        for (Map.Entry<String, Duration> window : WINDOWS.entrySet()) {
+            long seconds = window.getValue().toSeconds();
+            long[] orders = new long[STATUSES.length];
+            long[] amounts = new long[STATUSES.length];
+            for (long second = nowSecond - seconds + 1; second <= nowSecond; second++) {
+                Bucket bucket = buckets.get(slot(second));
+                // A slot still holding an older second has not been written within the window
+                if (bucket == null || bucket.second != second) {
+                    continue;
+                }
+                for (int i = 0; i < STATUSES.length; i++) {
+                    orders[i] += bucket.orders[i].sum();
+                    amounts[i] += bucket.amounts[i].sum();
+                }
+            }
+
+            Map<String, OrderStatsWindow.StatusStats> statuses = new LinkedHashMap<>();
+            for (OrderStatus status : STATUSES) {
+                statuses.put(status.name(), new OrderStatsWindow.StatusStats(
+                        orders[status.ordinal()], Money.ofMinor(amounts[status.ordinal()]).toBigDecimal()));
+            }
+            double ordersPerSecond = (double) orders[OrderStatus.CREATED.ordinal()] / seconds;
+            result.add(new OrderStatsWindow(window.getKey(), seconds, ordersPerSecond, statuses));
+        }
+        return new OrderStatsResponse(Instant.ofEpochMilli(nowMillis), result);
+    }
+
+    private Bucket bucket(long second) {
+        int slot = slot(second);
+        while (true) {
+            Bucket current = buckets.get(slot);
+            if (current != null && current.second == second) {
+                return current;
+            }
+            // A clock going backwards keeps writing into the newest bucket of the slot
+            if (current != null && current.second > second) {
+                return current;
+            }
+            // First write of this second: recycle the slot that held the same second an hour ago
+            Bucket fresh = new Bucket(second);
+            if (buckets.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static int slot(long second) {
+        return (int) Math.floorMod(second, (long) SLOTS);
+    }
+
+    private static Map<String, Duration> windows() {
+        Map<String, Duration> windows = new LinkedHashMap<>();
+        windows.put("1m", Duration.ofMinutes(1));
+        windows.put("5m", Duration.ofMinutes(5));
+        windows.put("1h", Duration.ofHours(1));
+        return windows;
+    }
+
+    private static final class Bucket {
+        private final long second;
+        private final LongAdder[] orders = adders();
+        private final LongAdder[] amounts = adders();
+
+        private Bucket(long second) {
+            this.second = second;
+        }
+
+        private static LongAdder[] adders() {
+            LongAdder[] adders = new LongAdder[STATUSES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
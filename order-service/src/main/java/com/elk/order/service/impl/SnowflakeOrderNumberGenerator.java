@@ -0,0 +1,102 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.config.OrderNumberProperties;
+import com.elk.order.service.OrderNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style ids: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node id and
+ * 12 bits of per-millisecond sequence. Ids from one node are strictly increasing, ids from
+ * different nodes never collide, and no database round trip is needed.
+ * The id is rendered as a zero-padded base-36 string so lexical order matches numeric order,
+ * which keeps inserts into the orderNumber index append-mostly.
+ */
+@Component
+@Slf4j
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    // Long.MAX_VALUE in base 36 is 13 characters
+    private static final int ENCODED_LENGTH = 13;
+    private static final String PREFIX = "ORD-";
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    // (millis since EPOCH << SEQUENCE_BITS) | sequence of the last issued id
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeOrderNumberGenerator(OrderNumberProperties properties, Environment environment) {
+        this(resolveNodeId(properties, environment), System::currentTimeMillis);
+    }
+
+    SnowflakeOrderNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.number.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        log.info("Order number generator using nodeId={}", nodeId);
+    }
+
+    @Override
+    public String nextOrderNumber() {
+        String encoded = Long.toString(nextId(), 36).toUpperCase();
+        return PREFIX + "0".repeat(ENCODED_LENGTH - encoded.length()) + encoded;
+    }
+
+    long nextId() {
+        while (true) {
+            long last = state.get();
+            long now = clock.getAsLong() - EPOCH;
+            // New millisecond: restart the sequence. Same millisecond, clock going backwards or
+            // sequence exhausted: last + 1, where a sequence overflow carries into the next
+            // millisecond, so ids never repeat or go backwards
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (state.compareAndSet(last, next)) {
+                long millis = next >>> SEQUENCE_BITS;
+                return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    // Two instances with the same node id issue the same order numbers, so production must configure one
+    static long resolveNodeId(OrderNumberProperties properties, Environment environment) {
+        if (properties.nodeId() != null) {
+            return properties.nodeId();
+        }
+        if (environment.acceptsProfiles(Profiles.of("dev", "test"))) {
+            return deriveNodeId();
+        }
+        throw new IllegalStateException("order.number.node-id is not set: give every running instance a distinct node id (0-"
+                + MAX_NODE_ID + "). Derived node ids are only used with the dev or test profile");
+    }
+
+    private static long deriveNodeId() {
+        long pid = ProcessHandle.current().pid();
+        int hostHash;
+        try {
+            hostHash = InetAddress.getLocalHost().getHostAddress().hashCode();
+        } catch (UnknownHostException ex) {
+            hostHash = 0;
+        }
+        long nodeId = ((hostHash * 31L) + pid) & MAX_NODE_ID;
+        log.warn("order.number.node-id not set, derived nodeId={} from host and pid; "
+                + "it may collide with another instance, configure distinct node ids outside dev/test", nodeId);
+        return nodeId;
+    }
+}
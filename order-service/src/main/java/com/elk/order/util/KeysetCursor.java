@@ -0,0 +1,34 @@
+package com.elk.order.util;
+
+import com.elk.order.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page sorted by (createdAt DESC, id DESC),
+ * encoded as an opaque url-safe token.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
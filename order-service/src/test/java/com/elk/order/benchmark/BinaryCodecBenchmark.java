@@ -0,0 +1,143 @@
+package com.elk.order.benchmark;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.serializer.IsoLocalDateTimeDeserializer;
+import com.elk.order.dto.OrderAuditResponse;
+import com.elk.order.dto.OrderItemResponse;
+import com.elk.order.dto.OrderResponse;
+import com.elk.order.dto.ProductResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decode cost of the envelopes Feign clients read, per wire format: payment-service reading an order
+ * (OrderClient.getOrderById) and order-service reading a cart of products (ProductClient.getProductsByIds).
+ * Mappers are configured like the application ones (Jackson2ObjectMapperBuilder, ISO dates), with either the
+ * JavaTimeModule or elk-common's IsoLocalDateTimeDeserializer reading timestamps.
+ * Payload sizes, raw and gzipped, are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private String format;
+
+    // order: one order with 5 items, products: a 20 product cart
+    @Param({"order", "products"})
+    private String payload;
+
+    @Param({"JAVA_TIME", "ISO"})
+    private String dates;
+
+    private ObjectMapper mapper;
+    private JavaType type;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "SMILE" -> Jackson2ObjectMapperBuilder.smile();
+            case "CBOR" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if ("ISO".equals(dates)) {
+            builder.modulesToInstall(new SimpleModule().addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer()));
+        }
+        mapper = builder.build();
+
+        Object value;
+        if ("order".equals(payload)) {
+            type = mapper.getTypeFactory().constructType(new TypeReference<ApiResponse<OrderResponse>>() { });
+            value = ApiResponse.of(HttpStatus.OK, "Order fetched successfully", order(5),
+                    "http://order-service:8082/api/v1/orders/42");
+        } else {
+            type = mapper.getTypeFactory().constructType(new TypeReference<ApiResponse<List<ProductResponse>>>() { });
+            value = ApiResponse.of(HttpStatus.OK, "Products fetched successfully", products(20),
+                    "http://product-service:8081/api/v1/products?ids=1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,20");
+        }
+        encoded = mapper.writeValueAsBytes(value);
+        System.out.printf("%n%s %s: %d bytes, %d gzipped%n", format, payload, encoded.length, gzippedSize(encoded));
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return mapper.readValue(encoded, type);
+    }
+
+    private static OrderResponse order(int itemCount) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderItemResponse> items = new ArrayList<>();
+        for (long i = 1; i <= itemCount; i++) {
+            items.add(new OrderItemResponse(i, 100 + i, "Product " + (100 + i), new BigDecimal("10.50"), 2, new BigDecimal("21.00")));
+        }
+        return OrderResponse.builder()
+                .id(42L)
+                .orderNumber("ORD-01SXTVV5NE5TS")
+                .customerId("customer-1")
+                .status("CREATED")
+                .totalAmount(new BigDecimal("105.00"))
+                .version(0L)
+                .items(items)
+                .audit(OrderAuditResponse.builder().createdAt(now).createdBy("SYSTEM").updatedAt(now).updatedBy("SYSTEM").build())
+                .build();
+    }
+
+    private static List<ProductResponse> products(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductResponse> products = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            products.add(ProductResponse.builder()
+                    .id(id)
+                    .productCode("PRD-" + (1000 + id))
+                    .name("Product " + id)
+                    .description("Hand made ceramic mug, dishwasher safe, 350 ml. Ships in recycled packaging.")
+                    .price(new BigDecimal("12.99"))
+                    .stockQuantity(250)
+                    .status("ACTIVE")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return products;
+    }
+
+    private static int gzippedSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.size();
+    }
+}
@@ -0,0 +1,60 @@
+package com.elk.order.benchmark;
+
+import com.elk.order.config.OrderNumberProperties;
+import com.elk.order.service.impl.SnowflakeOrderNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake generator vs the previous UUID-prefix order numbers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+    private SnowflakeOrderNumberGenerator snowflake;
+
+    @Setup
+    public void setUp() {
+        snowflake = new SnowflakeOrderNumberGenerator(new OrderNumberProperties(1), new StandardEnvironment());
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextOrderNumber();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return snowflake.nextOrderNumber();
+    }
+
+    @Benchmark
+    public String uuidPrefix() {
+        return "ORD-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidPrefixContended() {
+        return "ORD-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,74 @@
+package com.elk.order.benchmark;
+
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.service.impl.SlidingWindowOrderStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-path cost of recording a created order: striped long counters vs a single lock-guarded
+ * BigDecimal total, uncontended and with 8 writer threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderStatsBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("42.99");
+
+    private SlidingWindowOrderStats stats;
+    private final Object lock = new Object();
+    private long lockedOrders;
+    private BigDecimal lockedAmount;
+
+    @Setup
+    public void setUp() {
+        stats = new SlidingWindowOrderStats();
+        lockedOrders = 0;
+        lockedAmount = BigDecimal.ZERO;
+    }
+
+    @Benchmark
+    public void stripedMinorUnits() {
+        stats.record(OrderStatus.CREATED, 1, 4299);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void stripedMinorUnitsContended() {
+        stats.record(OrderStatus.CREATED, 1, 4299);
+    }
+
+    @Benchmark
+    public void lockedBigDecimal() {
+        recordLocked();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void lockedBigDecimalContended() {
+        recordLocked();
+    }
+
+    private void recordLocked() {
+        synchronized (lock) {
+            lockedOrders++;
+            lockedAmount = lockedAmount.add(AMOUNT);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.elk.order.client;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.order.config.ProductCacheProperties;
+import com.elk.order.config.ProductFallbackProperties;
+import com.elk.order.config.ProductLookupConfig;
+import com.elk.order.config.ProductLookupProperties;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.exception.DownstreamTimeoutException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ProductResolverTests {
+
+    private static final int PARALLELISM = 2;
+
+    private final CountDownLatch hangRelease = new CountDownLatch(1);
+    private final ProductLookupProperties properties = new ProductLookupProperties(
+            ProductLookupProperties.Mode.PARALLEL, Duration.ofMillis(200), PARALLELISM, 4, 200);
+    private final ExecutorService executor = new ProductLookupConfig().productLookupExecutor(properties);
+
+    @AfterEach
+    void tearDown() {
+        hangRelease.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void lookupPastTheDeadlineFreesThePoolAndBulkhead() throws Exception {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(PARALLELISM)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(ProductServiceGuard.INSTANCE);
+        AtomicBoolean hanging = new AtomicBoolean(true);
+        ProductClient productClient = mock(ProductClient.class);
+        given(productClient.getProductById(anyLong())).willAnswer(invocation -> {
+            // A product-service that stops answering until the caller gives up
+            if (hanging.get()) {
+                hangRelease.await();
+            }
+            Long id = invocation.getArgument(0);
+            return ApiResponse.of(HttpStatus.OK, "Product fetched successfully", product(id), "/api/v1/products/" + id);
+        });
+        ProductResolver resolver = resolver(productClient, bulkheadRegistry);
+
+        assertThatThrownBy(() -> resolver.resolve(List.of(1L, 2L)))
+                .isInstanceOf(DownstreamTimeoutException.class);
+
+        // The hung lookups were interrupted, not left running on the pool after the deadline
+        awaitIdle();
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(PARALLELISM);
+
+        hanging.set(false);
+        assertThat(resolver.resolve(List.of(1L, 2L))).containsOnlyKeys(1L, 2L);
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (pool.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(pool.getActiveCount()).isZero();
+    }
+
+    private ProductResolver resolver(ProductClient productClient, BulkheadRegistry bulkheadRegistry) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ProductServiceGuard guard = new ProductServiceGuard(CircuitBreakerRegistry.ofDefaults(), bulkheadRegistry,
+                new ProductFallbackProperties(true, Duration.ofMinutes(15), 1000), meterRegistry);
+        return new ProductResolver(productClient, guard, properties,
+                new ProductCacheProperties(false, 100, Duration.ofSeconds(60), Duration.ofSeconds(30)),
+                executor, meterRegistry);
+    }
+
+    private static ProductResponse product(Long id) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(new BigDecimal("10.00"))
+                .build();
+    }
+}
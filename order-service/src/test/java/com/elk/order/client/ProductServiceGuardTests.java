@@ -0,0 +1,134 @@
+package com.elk.order.client;
+
+import com.elk.order.config.ProductFallbackProperties;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.exception.DownstreamUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductServiceGuardTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    @Test
+    void openCircuitIsServedFromLastKnownGoodSnapshot() {
+        ProductServiceGuard guard = guard(BulkheadRegistry.ofDefaults());
+        guard.remember(Map.of(1L, product(1L), 2L, product(2L)));
+        circuitBreakerRegistry.circuitBreaker(ProductServiceGuard.INSTANCE).transitionToOpenState();
+
+        RuntimeException rejection = rejected(guard);
+        assertThat(guard.isRejection(rejection)).isTrue();
+        assertThat(guard.isRejection(new CompletionException(rejection))).isTrue();
+        assertThat(guard.fallback(List.of(1L, 2L), rejection)).containsOnlyKeys(1L, 2L);
+
+        assertThat(meterRegistry.get("product.lookup.rejected").tag("reason", "circuit_open").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.lookup.fallback").tag("outcome", "served").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void partialSnapshotFailsTheLookup() {
+        ProductServiceGuard guard = guard(BulkheadRegistry.ofDefaults());
+        guard.remember(product(1L));
+        circuitBreakerRegistry.circuitBreaker(ProductServiceGuard.INSTANCE).transitionToOpenState();
+
+        RuntimeException rejection = rejected(guard);
+        assertThatThrownBy(() -> guard.fallback(List.of(1L, 2L), rejection))
+                .isInstanceOf(DownstreamUnavailableException.class);
+        assertThat(meterRegistry.get("product.lookup.fallback").tag("outcome", "missed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkLookupIsServedWhatTheSnapshotHas() {
+        ProductServiceGuard guard = guard(BulkheadRegistry.ofDefaults());
+        guard.remember(product(1L));
+        circuitBreakerRegistry.circuitBreaker(ProductServiceGuard.INSTANCE).transitionToOpenState();
+
+        RuntimeException rejection = rejected(guard);
+        assertThat(guard.fallbackAvailable(List.of(1L, 2L), rejection)).containsOnlyKeys(1L);
+        assertThatThrownBy(() -> guard.fallbackAvailable(List.of(2L, 3L), rejection))
+                .isInstanceOf(DownstreamUnavailableException.class);
+        assertThat(meterRegistry.get("product.lookup.fallback").tag("outcome", "served").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.lookup.fallback").tag("outcome", "missed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fullBulkheadRejectsWithoutRecordingAFailure() throws Exception {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        ProductServiceGuard guard = guard(bulkheadRegistry);
+        CountDownLatch inCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> guard.call(() -> {
+                inCall.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+            inCall.await();
+
+            RuntimeException rejection = rejected(guard);
+            assertThat(guard.isRejection(rejection)).isTrue();
+            assertThatThrownBy(() -> guard.fallback(List.of(1L), rejection))
+                    .isInstanceOf(DownstreamUnavailableException.class);
+            assertThat(meterRegistry.get("product.lookup.rejected").tag("reason", "bulkhead_full").counter().count()).isEqualTo(1);
+            assertThat(circuitBreakerRegistry.circuitBreaker(ProductServiceGuard.INSTANCE).getMetrics().getNumberOfFailedCalls()).isZero();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void failedCallsAreNotRejections() {
+        ProductServiceGuard guard = guard(BulkheadRegistry.ofDefaults());
+        assertThat(guard.isRejection(new IllegalStateException("boom"))).isFalse();
+        assertThat(guard.isRejection(CallNotPermittedException.createCallNotPermittedException(
+                circuitBreakerRegistry.circuitBreaker(ProductServiceGuard.INSTANCE)))).isTrue();
+    }
+
+    private ProductServiceGuard guard(BulkheadRegistry bulkheadRegistry) {
+        return new ProductServiceGuard(circuitBreakerRegistry, bulkheadRegistry,
+                new ProductFallbackProperties(true, Duration.ofMinutes(15), 1000), meterRegistry);
+    }
+
+    private static RuntimeException rejected(ProductServiceGuard guard) {
+        try {
+            guard.call(() -> "called");
+        } catch (RuntimeException ex) {
+            return ex;
+        }
+        throw new AssertionError("call was not rejected");
+    }
+
+    private static ProductResponse product(Long id) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.elk.order.controller;
+
+import com.elk.common.money.Money;
+import com.elk.order.client.ProductResolver;
+import com.elk.order.config.AuditConfig;
+import com.elk.order.config.BatchOrderProperties;
+import com.elk.order.config.PaginationProperties;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderItem;
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.exception.handler.GlobalExceptionHandler;
+import com.elk.order.repository.OrderRepository;
+import com.elk.order.service.CustomerOrderSummaryService;
+import com.elk.order.service.OrderNumberGenerator;
+import com.elk.order.service.OrderService;
+import com.elk.order.service.OrderStatsService;
+import com.elk.order.service.impl.OrderServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not transactional: the export streams on an async thread that must see committed orders
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderServiceImpl.class, AuditConfig.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, JacksonAutoConfiguration.class})
+@EnableConfigurationProperties({PaginationProperties.class, BatchOrderProperties.class})
+class OrderExportTests {
+
+    // More than two fetch chunks of OrderRepository.EXPORT_FETCH_SIZE
+    private static final int CONFIRMED_ORDERS = 2 * OrderRepository.EXPORT_FETCH_SIZE + 1;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ProductResolver productResolver;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private CustomerOrderSummaryService customerOrderSummaryService;
+
+    @MockitoBean
+    private OrderStatsService orderStatsService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new OrderController(orderService, customerOrderSummaryService, orderStatsService, objectMapper))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void exportWritesOneOrderPerLineAcrossFetchChunks() throws Exception {
+        persistOrders(CONFIRMED_ORDERS, OrderStatus.CONFIRMED);
+        persistOrders(5, OrderStatus.CREATED);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/orders/export").param("status", "confirmed"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(CONFIRMED_ORDERS);
+        for (String line : lines) {
+            JsonNode order = objectMapper.readTree(line);
+            assertThat(order.get("status").asText()).isEqualTo("CONFIRMED");
+            assertThat(order.get("items")).hasSize(1);
+        }
+    }
+
+    @Test
+    void exportRequiresExactlyOneOfStatusOrCustomerId() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/export"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/orders/export").param("status", "CREATED").param("customerId", "customer-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportKeepsThePersistenceContextToOneChunk() {
+        persistOrders(CONFIRMED_ORDERS, OrderStatus.CONFIRMED);
+        AtomicInteger exported = new AtomicInteger();
+        AtomicInteger maxManaged = new AtomicInteger();
+
+        orderService.exportOrders(OrderStatus.CONFIRMED, null, order -> {
+            exported.incrementAndGet();
+            int managed = entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+            maxManaged.accumulateAndGet(managed, Math::max);
+        });
+
+        assertThat(exported).hasValue(CONFIRMED_ORDERS);
+        assertThat(maxManaged.get()).isLessThanOrEqualTo(OrderRepository.EXPORT_FETCH_SIZE);
+    }
+
+    private void persistOrders(int count, OrderStatus status) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            List<Order> orders = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Order order = Order.builder()
+                        .orderNumber("ORD-" + status + "-" + i)
+                        .customerId("customer-" + (i % 10))
+                        .status(status)
+                        .totalAmount(Money.ofMinor(1000))
+                        .build();
+                order.setItems(new ArrayList<>(List.of(OrderItem.builder()
+                        .order(order)
+                        .productId(1L)
+                        .productName("Product 1")
+                        .price(Money.ofMinor(1000))
+                        .quantity(1)
+                        .totalPrice(Money.ofMinor(1000))
+                        .build())));
+                orders.add(order);
+            }
+            orderRepository.saveAll(orders);
+        });
+    }
+}
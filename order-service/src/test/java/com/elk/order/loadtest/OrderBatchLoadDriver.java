@@ -0,0 +1,73 @@
+package com.elk.order.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.StringJoiner;
+
+/**
+ * Load driver for POST /api/v1/orders/batch, the counterpart of {@link OrderCreateLoadDriver}: it submits
+ * the same orders as batch files one after another, like a B2B integration, and reports orders/s to
+ * compare with the req/s of the single-order endpoint. Pair it with {@link ProductServiceStub}.
+ * Not a unit test: start order-service, then run
+ * <pre>
+ * java -cp target/test-classes com.elk.order.loadtest.OrderBatchLoadDriver [baseUrl] [orders] [ordersPerBatch] [itemsPerOrder]
+ * </pre>
+ * One batch is sent first as a warm-up and excluded from the report.
+ */
+public class OrderBatchLoadDriver {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8082";
+        int orders = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int ordersPerBatch = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int itemsPerOrder = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        // HTTP/1.1: Tomcat answers an h2c upgrade request with a large body with 413
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI uri = URI.create(baseUrl + "/api/v1/orders/batch");
+
+        send(client, uri, 0, ordersPerBatch, itemsPerOrder);
+        long start = System.nanoTime();
+        long slowestBatch = 0;
+        for (int sent = 0; sent < orders; sent += ordersPerBatch) {
+            int batchSize = Math.min(ordersPerBatch, orders - sent);
+            long batchStart = System.nanoTime();
+            send(client, uri, ordersPerBatch + sent, batchSize, itemsPerOrder);
+            slowestBatch = Math.max(slowestBatch, System.nanoTime() - batchStart);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("orders=%d orders/batch=%d items/order=%d%n", orders, ordersPerBatch, itemsPerOrder);
+        System.out.printf("throughput=%.1f orders/s, elapsed=%.1f s, slowest batch=%.0f ms%n",
+                orders / seconds, seconds, slowestBatch / 1e6);
+        System.exit(0);
+    }
+
+    private static void send(HttpClient client, URI uri, long firstSequence, int batchSize, int itemsPerOrder)
+            throws Exception {
+        StringJoiner orders = new StringJoiner(",", "{\"orders\":[", "]}");
+        for (long sequence = firstSequence; sequence < firstSequence + batchSize; sequence++) {
+            StringJoiner items = new StringJoiner(",", "[", "]");
+            for (int item = 0; item < itemsPerOrder; item++) {
+                items.add("{\"productId\":" + (1 + (sequence + item) % 100) + ",\"quantity\":1}");
+            }
+            orders.add("{\"customerId\":\"load-" + (sequence % 1000) + "\",\"items\":" + items + "}");
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofMinutes(5))
+                .POST(HttpRequest.BodyPublishers.ofString(orders.toString()))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2 || !response.body().contains("\"failed\":0")) {
+            throw new IllegalStateException("Batch failed with HTTP " + response.statusCode() + ": "
+                    + response.body().substring(0, Math.min(500, response.body().length())));
+        }
+    }
+}
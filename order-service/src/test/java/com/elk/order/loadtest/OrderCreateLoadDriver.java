@@ -0,0 +1,117 @@
+package com.elk.order.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load driver for POST /api/v1/orders, used to compare execution modes on the same
+ * machine: blocking vs reactive creation (order.reactive.enabled), platform vs virtual threads
+ * (virtual-threads profile) and Feign transports (spring.cloud.openfeign.okhttp.enabled).
+ * Pair it with {@link ProductServiceStub} to make every request slow.
+ * Not a unit test: start order-service in the mode under test, then run
+ * <pre>
+ * java -cp target/test-classes com.elk.order.loadtest.OrderCreateLoadDriver [baseUrl] [concurrency] [requests] [itemsPerOrder] [timeoutSeconds]
+ * </pre>
+ * A warm-up of 10% of the requests is sent first and excluded from the report.
+ */
+public class OrderCreateLoadDriver {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8082";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+        int itemsPerOrder = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+        Duration timeout = Duration.ofSeconds(args.length > 4 ? Long.parseLong(args[4]) : 30);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(4))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI uri = URI.create(baseUrl + "/api/v1/orders");
+
+        run(client, uri, concurrency, Math.max(1, requests / 10), itemsPerOrder, timeout);
+        Result result = run(client, uri, concurrency, requests, itemsPerOrder, timeout);
+
+        System.out.printf("requests=%d concurrency=%d items/order=%d%n", requests, concurrency, itemsPerOrder);
+        double throughput = requests / (result.elapsedNanos() / 1e9);
+        double meanMillis = Arrays.stream(result.latencies()).average().orElse(0) / 1e6;
+        System.out.printf("throughput=%.1f req/s, mean=%.1f ms, p50=%.1f ms, p99=%.1f ms, max=%.1f ms, errors=%s%n",
+                throughput, meanMillis,
+                percentile(result.latencies(), 50), percentile(result.latencies(), 99),
+                percentile(result.latencies(), 100), result.errors());
+        // Little's law: requests the server actually had in progress on average
+        System.out.printf("served concurrency=%.0f%n", throughput * meanMillis / 1000);
+        System.exit(0);
+    }
+
+    private static Result run(HttpClient client, URI uri, int concurrency, int requests, int itemsPerOrder, Duration timeout)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        long[] latencies = new long[requests];
+        Map<String, Integer> errors = new ConcurrentHashMap<>();
+        AtomicLong sequence = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int slot = i;
+            long sent = System.nanoTime();
+            client.sendAsync(request(uri, sequence.incrementAndGet(), itemsPerOrder, timeout), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[slot] = System.nanoTime() - sent;
+                        if (error != null) {
+                            errors.merge(rootCause(error).getClass().getSimpleName(), 1, Integer::sum);
+                        } else if (response.statusCode() != 201) {
+                            errors.merge("HTTP " + response.statusCode(), 1, Integer::sum);
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+        return new Result(System.nanoTime() - start, latencies, errors);
+    }
+
+    private static HttpRequest request(URI uri, long sequence, int itemsPerOrder, Duration timeout) {
+        StringBuilder items = new StringBuilder();
+        for (int item = 0; item < itemsPerOrder; item++) {
+            if (item > 0) {
+                items.append(',');
+            }
+            items.append("{\"productId\":").append(1 + (sequence + item) % 100).append(",\"quantity\":1}");
+        }
+        String body = "{\"customerId\":\"load-" + (sequence % 1000) + "\",\"items\":[" + items + "]}";
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(timeout)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static double percentile(long[] latencies, double percentile) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        while (error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private record Result(long elapsedNanos, long[] latencies, Map<String, Integer> errors) { }
+}
@@ -0,0 +1,106 @@
+package com.elk.order.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stand-in for product-service with a fixed response delay, for the load drivers in this package.
+ * Responses are completed from a scheduler, so thousands of delayed requests need no thread each.
+ * Product ids of 900 and above are reported as missing. Like product-service with server.compression,
+ * responses of at least compressMinBytes are gzipped for clients that accept it (-1 never compresses).
+ * <pre>
+ * java -cp target/test-classes com.elk.order.loadtest.ProductServiceStub [port] [delayMillis] [compressMinBytes]
+ * </pre>
+ * Point order-service at it with
+ * --eureka.client.enabled=false --spring.cloud.discovery.client.simple.instances.PRODUCT-SERVICE[0].uri=http://localhost:9998
+ */
+public class ProductServiceStub {
+
+    private static final Pattern SINGLE = Pattern.compile("/api/v1/products/(\\d+)");
+    private static final Pattern ID = Pattern.compile("ids=([0-9,]+)");
+    // Product descriptions are free text, a few hundred bytes is typical
+    private static final String DESCRIPTION = "Stub product used for load tests. ".repeat(8).trim();
+
+    private static int compressMinBytes;
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9998;
+        long delayMillis = args.length > 1 ? Long.parseLong(args[1]) : 200;
+        compressMinBytes = args.length > 2 ? Integer.parseInt(args[2]) : 2048;
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 10_000);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/api/v1/products", exchange ->
+                scheduler.schedule(() -> respond(exchange), delayMillis, TimeUnit.MILLISECONDS));
+        server.start();
+        System.out.printf("Product stub listening on %d with %d ms delay, compressing from %d bytes%n",
+                port, delayMillis, compressMinBytes);
+    }
+
+    private static void respond(HttpExchange exchange) {
+        try (exchange) {
+            String data = data(exchange.getRequestURI().getPath(), exchange.getRequestURI().getRawQuery());
+            byte[] body = ("{\"status\":200,\"message\":\"ok\",\"data\":" + data + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (compressMinBytes >= 0 && body.length >= compressMinBytes
+                    && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = gzip(body);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException ex) {
+            // Client went away, nothing to do
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String data(String path, String query) {
+        Matcher single = SINGLE.matcher(path);
+        if (single.matches()) {
+            return product(Long.parseLong(single.group(1)));
+        }
+        StringJoiner products = new StringJoiner(",", "[", "]");
+        if (query != null) {
+            Matcher ids = ID.matcher(query.replace("%2C", ","));
+            while (ids.find()) {
+                for (String id : ids.group(1).split(",")) {
+                    long productId = Long.parseLong(id);
+                    if (productId < 900) {
+                        products.add(product(productId));
+                    }
+                }
+            }
+        }
+        return products.toString();
+    }
+
+    private static String product(long id) {
+        return "{\"id\":" + id + ",\"productCode\":\"P" + id + "\",\"name\":\"Product " + id
+                + "\",\"description\":\"" + DESCRIPTION + "\",\"price\":10.5,\"stockQuantity\":5,\"status\":\"ACTIVE\"}";
+    }
+}
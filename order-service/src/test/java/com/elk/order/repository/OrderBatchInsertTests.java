@@ -0,0 +1,63 @@
+package com.elk.order.repository;
+
+import com.elk.common.money.Money;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderItem;
+import com.elk.order.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderBatchInsertTests {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void fiftyItemOrderIsWrittenInAFewBatchedStatements() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        orderRepository.save(orderWithItems(50));
+        entityManager.flush();
+
+        // order insert + one batched item insert + sequence fetches, instead of 51 inserts
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(51);
+    }
+
+    private Order orderWithItems(int count) {
+        Order order = Order.builder()
+                .orderNumber("ORD-BATCH-" + System.nanoTime())
+                .customerId("customer-1")
+                .status(OrderStatus.CREATED)
+                .totalAmount(Money.ofMinor(count * 1000L))
+                .build();
+        List<OrderItem> items = new ArrayList<>();
+        for (long productId = 1; productId <= count; productId++) {
+            items.add(OrderItem.builder()
+                    .order(order)
+                    .productId(productId)
+                    .productName("Product " + productId)
+                    .price(Money.ofMinor(1000))
+                    .quantity(1)
+                    .totalPrice(Money.ofMinor(1000))
+                    .build());
+        }
+        order.setItems(items);
+        return order;
+    }
+}
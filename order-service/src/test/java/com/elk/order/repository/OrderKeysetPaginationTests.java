@@ -0,0 +1,119 @@
+package com.elk.order.repository;
+
+import com.elk.common.money.Money;
+import com.elk.order.dto.OrderSummaryResponse;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(OrderKeysetPaginationTests.SqlCapture.class)
+class OrderKeysetPaginationTests {
+
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Test
+    void pagesWalkEveryOrderOnceAcrossCreatedAtTies() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            orders.add(orderRepository.save(order()));
+        }
+        entityManager.flush();
+        // Five orders per timestamp, so page boundaries fall inside runs of equal createdAt
+        for (int i = 0; i < orders.size(); i++) {
+            entityManager.createNativeQuery("UPDATE orders SET created_at = :createdAt WHERE id = :id")
+                    .setParameter("createdAt", base.plusSeconds(i / 5))
+                    .setParameter("id", orders.get(i).getId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+
+        List<OrderSummaryResponse> walked = new ArrayList<>();
+        List<OrderSummaryResponse> page = orderRepository.findFirstOrderSummaries(Limit.of(PAGE_SIZE));
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            OrderSummaryResponse last = page.get(page.size() - 1);
+            page = orderRepository.findOrderSummariesAfter(last.createdAt(), last.id(), Limit.of(PAGE_SIZE));
+        }
+
+        List<Long> expected = orderRepository.findAll().stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId).reversed())
+                .map(Order::getId)
+                .toList();
+        assertThat(walked).extracting(OrderSummaryResponse::id).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void pageAfterACursorIsAnIndexRangeScan() throws Exception {
+        sqlCapture.statements.clear();
+        orderRepository.findOrderSummariesAfter(LocalDateTime.now(), 100L, Limit.of(PAGE_SIZE));
+        String sql = sqlCapture.statements.get(sqlCapture.statements.size() - 1);
+
+        try (Connection connection = dataSource.getConnection();
+             ResultSet plan = connection.prepareStatement("EXPLAIN " + sql).executeQuery()) {
+            plan.next();
+            // Bounded by the cursor: deep pages start reading at the cursor instead of the newest order
+            assertThat(plan.getString(1)).contains("IDX_ORDERS_CREATED_AT_ID: CREATED_AT <=");
+        }
+    }
+
+    private static Order order() {
+        return Order.builder()
+                .orderNumber("ORD-PAGE-" + System.nanoTime())
+                .customerId("customer-1")
+                .status(OrderStatus.CREATED)
+                .totalAmount(Money.ofMinor(1000))
+                .build();
+    }
+
+    // Records the SQL Hibernate sends, so its plan can be inspected
+    @TestConfiguration
+    static class SqlCapture implements StatementInspector {
+
+        final List<String> statements = new ArrayList<>();
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.elk.order.service.impl;
+
+import com.elk.common.money.Money;
+import com.elk.order.client.ProductResolver;
+import com.elk.order.config.AuditConfig;
+import com.elk.order.config.BatchOrderProperties;
+import com.elk.order.config.PaginationProperties;
+import com.elk.order.dto.BulkOrderStatusUpdateRequest;
+import com.elk.order.dto.CustomerOrderSummaryResponse;
+import com.elk.order.dto.OrderStatusUpdateRequest;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderItem;
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.repository.CustomerOrderSummaryRepository;
+import com.elk.order.repository.OrderRepository;
+import com.elk.order.service.OrderNumberGenerator;
+import com.elk.order.service.OrderStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+// Not transactional: the read model is exercised by concurrent writers, each committing on its own thread
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderServiceImpl.class, CustomerOrderSummaryServiceImpl.class, AuditConfig.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@EnableConfigurationProperties({PaginationProperties.class, BatchOrderProperties.class})
+class CustomerOrderSummaryServiceImplTests {
+
+    private static final int CUSTOMERS = 5;
+
+    @Autowired
+    private OrderServiceImpl orderService;
+
+    @Autowired
+    private CustomerOrderSummaryServiceImpl summaryService;
+
+    // Aggregate reads pause before returning, widening the window for a concurrent writer
+    @MockitoSpyBean
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CustomerOrderSummaryRepository summaryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private ProductResolver productResolver;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private OrderStatsService orderStatsService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        summaryRepository.deleteAll();
+        // The spy delegates to the repository proxy through its default answer
+        Answer<?> repository = mockingDetails(orderRepository).getMockCreationSettings().getDefaultAnswer();
+        Answer<Object> slowRead = invocation -> {
+            Object result = repository.answer(invocation);
+            Thread.sleep(20);
+            return result;
+        };
+        doAnswer(slowRead).when(orderRepository).aggregateByIdsAndStatus(anyCollection(), anyCollection());
+        doAnswer(slowRead).when(orderRepository).aggregateByCustomerIds(anyCollection());
+    }
+
+    @Test
+    void recordCreatedCreatesAMissingRowInTheCallersTransaction() {
+        // No ensureSummaries beforehand, the row is created by the write transaction itself
+        transactionTemplate.executeWithoutResult(status ->
+                summaryService.recordCreated(List.of(orderRepository.save(order("customer-new", 2500)))));
+        transactionTemplate.executeWithoutResult(status ->
+                summaryService.recordCreated(List.of(orderRepository.save(order("customer-new", 1500)))));
+
+        CustomerOrderSummaryResponse summary = summaryService.getSummary("customer-new");
+        assertThat(summary.orderCount()).isEqualTo(2);
+        assertThat(summary.totalSpend()).isEqualByComparingTo("40.00");
+    }
+
+    @Test
+    void bulkTransitionRacingSingleUpdatesKeepsSummariesExact() throws Exception {
+        List<Long> orderIds = createOrders(400);
+
+        // Single-order cancels hit the same orders while bulk confirms run over slices of them
+        runConcurrently(
+                () -> {
+                    for (int from = 0; from < orderIds.size(); from += 20) {
+                        orderService.updateOrderStatuses(new BulkOrderStatusUpdateRequest(
+                                orderIds.subList(from, from + 20), OrderStatus.CONFIRMED));
+                    }
+                },
+                () -> cancelRandomOrders(orderIds, 200));
+
+        assertSummariesMatchOrders();
+    }
+
+    @Test
+    void rebuildRacingDeltaUpdatesLosesNoDelta() throws Exception {
+        List<Long> orderIds = createOrders(200);
+        AtomicBoolean rebuilding = new AtomicBoolean(true);
+
+        // Cancels keep committing deltas while rebuilds run; no rebuild afterwards papers over a lost one
+        runConcurrently(
+                () -> {
+                    for (int i = 0; i < 20; i++) {
+                        summaryService.rebuild();
+                    }
+                    rebuilding.set(false);
+                },
+                () -> {
+                    while (rebuilding.get()) {
+                        cancelRandomOrders(orderIds, 1);
+                    }
+                });
+
+        assertSummariesMatchOrders();
+    }
+
+    private List<Long> createOrders(int count) {
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Order order = order("customer-" + (i % CUSTOMERS), 1000 + i);
+            summaryService.ensureSummaries(List.of(order.getCustomerId()));
+            orderIds.add(transactionTemplate.execute(status -> {
+                Order saved = orderRepository.save(order);
+                summaryService.recordCreated(List.of(saved));
+                return saved.getId();
+            }));
+        }
+        return orderIds;
+    }
+
+    private void cancelRandomOrders(List<Long> orderIds, int cancels) {
+        for (int i = 0; i < cancels; i++) {
+            Long orderId = orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size()));
+            try {
+                orderService.updateOrderStatus(orderId, new OrderStatusUpdateRequest(OrderStatus.CANCELLED, null));
+            } catch (RuntimeException ex) {
+                // Already cancelled, or changed by the concurrent writer: nothing was recorded
+            }
+        }
+    }
+
+    // The incrementally maintained summaries must equal what the orders table says
+    private void assertSummariesMatchOrders() {
+        List<Order> orders = orderRepository.findAll();
+        Map<String, List<Order>> byCustomer = orders.stream().collect(Collectors.groupingBy(Order::getCustomerId));
+        assertThat(byCustomer).hasSize(CUSTOMERS);
+        byCustomer.forEach((customerId, customerOrders) -> {
+            CustomerOrderSummaryResponse summary = summaryService.getSummary(customerId);
+            assertThat(summary.orderCount()).isEqualTo(customerOrders.size());
+            Map<String, Long> statusCounts = customerOrders.stream()
+                    .collect(Collectors.groupingBy(order -> order.getStatus().name(), Collectors.counting()));
+            for (OrderStatus status : OrderStatus.values()) {
+                assertThat(summary.statusCounts().get(status.name()))
+                        .as("%s orders of %s", status, customerId)
+                        .isEqualTo(statusCounts.getOrDefault(status.name(), 0L));
+            }
+            BigDecimal spend = customerOrders.stream()
+                    .filter(order -> order.getStatus() != OrderStatus.CANCELLED)
+                    .map(order -> order.getTotalAmount().toBigDecimal())
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertThat(summary.totalSpend()).isEqualByComparingTo(spend);
+        });
+    }
+
+    private static void runConcurrently(Runnable... tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.length);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (Runnable task : tasks) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Order order(String customerId, long totalMinor) {
+        Order order = Order.builder()
+                .orderNumber("ORD-" + System.nanoTime())
+                .customerId(customerId)
+                .status(OrderStatus.CREATED)
+                .totalAmount(Money.ofMinor(totalMinor))
+                .build();
+        order.setItems(new ArrayList<>(List.of(OrderItem.builder()
+                .order(order)
+                .productId(1L)
+                .productName("Product 1")
+                .price(Money.ofMinor(totalMinor))
+                .quantity(1)
+                .totalPrice(Money.ofMinor(totalMinor))
+                .build())));
+        return order;
+    }
+}
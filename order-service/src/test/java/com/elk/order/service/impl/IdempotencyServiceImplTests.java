@@ -0,0 +1,115 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.config.IdempotencyProperties;
+import com.elk.order.dto.OrderItemRequest;
+import com.elk.order.dto.OrderRequest;
+import com.elk.order.exception.IdempotencyConflictException;
+import com.elk.order.service.IdempotencyService.IdempotentResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyServiceImplTests {
+
+    private final IdempotencyServiceImpl idempotencyService = new IdempotencyServiceImpl(
+            new IdempotencyProperties(Duration.ofHours(24), 1000, Duration.ofSeconds(5)), new ObjectMapper());
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void replayReturnsTheStoredResponse() {
+        IdempotentResult<String> first = idempotencyService.execute("key-1", order("customer-1", 2), this::createOrder);
+        IdempotentResult<String> replay = idempotencyService.execute("key-1", order("customer-1", 2), this::createOrder);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(replay.replayed()).isTrue();
+        assertThat(replay.value()).isEqualTo(first.value());
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void sameKeyWithADifferentBodyIsRejected() {
+        idempotencyService.execute("key-1", order("customer-1", 2), this::createOrder);
+
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", order("customer-1", 3), this::createOrder))
+                .isInstanceOf(IdempotencyConflictException.class);
+        // Different bodies with the same hashCode are told apart too
+        assertThat(order("Aa", 2).hashCode()).isEqualTo(order("BB", 2).hashCode());
+        idempotencyService.execute("key-2", order("Aa", 2), this::createOrder);
+        assertThatThrownBy(() -> idempotencyService.execute("key-2", order("BB", 2), this::createOrder))
+                .isInstanceOf(IdempotencyConflictException.class);
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void concurrentDuplicatesRunTheActionOnce() throws Exception {
+        int duplicates = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<IdempotentResult<String>>> results = new ArrayList<>();
+            for (int i = 0; i < duplicates; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return idempotencyService.execute("key-1", order("customer-1", 2), () -> {
+                        sleep(50);
+                        return createOrder();
+                    });
+                }));
+            }
+            start.countDown();
+
+            List<IdempotentResult<String>> completed = new ArrayList<>();
+            for (Future<IdempotentResult<String>> result : results) {
+                completed.add(result.get(10, TimeUnit.SECONDS));
+            }
+            assertThat(runs).hasValue(1);
+            assertThat(completed).extracting(IdempotentResult::value).containsOnly("order-1");
+            assertThat(completed).filteredOn(IdempotentResult::replayed).hasSize(duplicates - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedAttemptFreesTheKey() {
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", order("customer-1", 2), () -> {
+            throw new IllegalStateException("product-service down");
+        })).isInstanceOf(IllegalStateException.class);
+        // An Error must not leave the key stuck in flight either
+        assertThatThrownBy(() -> idempotencyService.execute("key-1", order("customer-1", 2), () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        IdempotentResult<String> retry = idempotencyService.execute("key-1", order("customer-1", 2), this::createOrder);
+        assertThat(retry.replayed()).isFalse();
+        assertThat(retry.value()).isEqualTo("order-1");
+    }
+
+    private String createOrder() {
+        return "order-" + runs.incrementAndGet();
+    }
+
+    private static OrderRequest order(String customerId, int quantity) {
+        return new OrderRequest(customerId, List.of(new OrderItemRequest(1L, quantity)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
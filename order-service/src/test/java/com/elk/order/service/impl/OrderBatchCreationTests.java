@@ -0,0 +1,85 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.client.ProductResolver;
+import com.elk.order.config.AuditConfig;
+import com.elk.order.config.BatchOrderProperties;
+import com.elk.order.config.PaginationProperties;
+import com.elk.order.dto.BatchOrderResponse;
+import com.elk.order.dto.BatchOrderResult;
+import com.elk.order.dto.OrderItemRequest;
+import com.elk.order.dto.OrderRequest;
+import com.elk.order.dto.ProductResponse;
+import com.elk.order.service.CustomerOrderSummaryService;
+import com.elk.order.service.OrderNumberGenerator;
+import com.elk.order.service.OrderStatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+// Not transactional: every chunk of the batch commits on its own
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OrderServiceImpl.class, AuditConfig.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@EnableConfigurationProperties({PaginationProperties.class, BatchOrderProperties.class})
+class OrderBatchCreationTests {
+
+    @Autowired
+    private OrderServiceImpl orderService;
+
+    @MockitoBean
+    private ProductResolver productResolver;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private CustomerOrderSummaryService customerOrderSummaryService;
+
+    @MockitoBean
+    private OrderStatsService orderStatsService;
+
+    @Test
+    void failedOrderIsReportedWithoutDatabaseDetails() {
+        given(productResolver.resolveAvailable(anyCollection())).willReturn(Map.of(1L, product(1L)));
+        // The chunk fails on a duplicate order number, then the retry of the second order hits it again
+        given(orderNumberGenerator.nextOrderNumber())
+                .willReturn("ORD-1", "ORD-1", "ORD-2", "ORD-1", "ORD-1", "ORD-3");
+
+        BatchOrderResponse response = orderService.createOrders(List.of(order(), order(), order()));
+
+        assertThat(response.succeeded()).isEqualTo(2);
+        BatchOrderResult failed = response.results().get(1);
+        assertThat(failed.success()).isFalse();
+        assertThat(failed.error()).isEqualTo("Order conflicts with existing data");
+        assertThat(response.results()).extracting(BatchOrderResult::orderNumber)
+                .containsExactly("ORD-1", null, "ORD-3");
+    }
+
+    private static OrderRequest order() {
+        return new OrderRequest("customer-1", List.of(new OrderItemRequest(1L, 2)));
+    }
+
+    private static ProductResponse product(Long id) {
+        return ProductResponse.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(new BigDecimal("10.00"))
+                .build();
+    }
+}
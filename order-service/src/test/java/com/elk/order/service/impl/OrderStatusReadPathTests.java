@@ -0,0 +1,137 @@
+package com.elk.order.service.impl;
+
+import com.elk.common.money.Money;
+import com.elk.order.client.ProductResolver;
+import com.elk.order.config.AuditConfig;
+import com.elk.order.config.BatchOrderProperties;
+import com.elk.order.config.PaginationProperties;
+import com.elk.order.dto.OrderResponse;
+import com.elk.order.dto.OrderSummaryResponse;
+import com.elk.order.entity.Order;
+import com.elk.order.entity.OrderItem;
+import com.elk.order.entity.OrderStatus;
+import com.elk.order.service.CustomerOrderSummaryService;
+import com.elk.order.service.OrderNumberGenerator;
+import com.elk.order.service.OrderStatsService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({OrderServiceImpl.class, AuditConfig.class})
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@EnableConfigurationProperties({PaginationProperties.class, BatchOrderProperties.class})
+class OrderStatusReadPathTests {
+
+    @Autowired
+    private OrderServiceImpl orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ProductResolver productResolver;
+
+    @MockitoBean
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @MockitoBean
+    private CustomerOrderSummaryService customerOrderSummaryService;
+
+    @MockitoBean
+    private OrderStatsService orderStatsService;
+
+    @Test
+    void findByOrderStatusRunsSameNumberOfStatementsRegardlessOfOrderCount() {
+        persistOrders(5, OrderStatus.CONFIRMED);
+        long fewOrdersStatements = countStatements(OrderStatus.CONFIRMED, 5);
+
+        persistOrders(50, OrderStatus.CONFIRMED);
+        long manyOrdersStatements = countStatements(OrderStatus.CONFIRMED, 55);
+
+        assertThat(fewOrdersStatements).isEqualTo(2);
+        assertThat(manyOrdersStatements).isEqualTo(fewOrdersStatements);
+    }
+
+    @Test
+    void findByOrderStatusReturnsItemsOfEachOrder() {
+        persistOrders(3, OrderStatus.CREATED);
+        persistOrders(2, OrderStatus.CANCELLED);
+        entityManager.clear();
+
+        List<OrderResponse> orders = orderService.findByOrderStatus("created");
+
+        assertThat(orders).hasSize(3);
+        assertThat(orders).allSatisfy(order -> {
+            assertThat(order.status()).isEqualTo("CREATED");
+            assertThat(order.items()).hasSize(3);
+        });
+    }
+
+    @Test
+    void getOrderSummaryReadsOnlyTheOrderRow() {
+        persistOrders(1, OrderStatus.CONFIRMED);
+        Long orderId = entityManager.createQuery("SELECT o.id FROM Order o", Long.class).getSingleResult();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        OrderSummaryResponse summary = orderService.getOrderSummary(orderId);
+
+        assertThat(summary.status()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(summary.totalAmount()).isEqualByComparingTo("30.00");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private long countStatements(OrderStatus status, int expectedOrders) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<OrderResponse> orders = orderService.findByOrderStatus(status.name());
+
+        assertThat(orders).hasSize(expectedOrders);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void persistOrders(int count, OrderStatus status) {
+        for (int i = 0; i < count; i++) {
+            Order order = Order.builder()
+                    .orderNumber("ORD-" + status + "-" + System.nanoTime())
+                    .customerId("customer-" + i)
+                    .status(status)
+                    .totalAmount(Money.ofMinor(3000))
+                    .build();
+            List<OrderItem> items = new ArrayList<>();
+            for (long productId = 1; productId <= 3; productId++) {
+                items.add(OrderItem.builder()
+                        .order(order)
+                        .productId(productId)
+                        .productName("Product " + productId)
+                        .price(Money.ofMinor(1000))
+                        .quantity(1)
+                        .totalPrice(Money.ofMinor(1000))
+                        .build());
+            }
+            order.setItems(items);
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+    }
+}
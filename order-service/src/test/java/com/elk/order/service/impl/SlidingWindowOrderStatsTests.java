@@ -0,0 +1,96 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.dto.OrderStatsResponse;
+import com.elk.order.dto.OrderStatsWindow;
+import com.elk.order.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowOrderStatsTests {
+
+    private static final long START = 1_760_000_000_000L;
+
+    @Test
+    void reportsOrdersAndAmountPerStatusPerWindow() {
+        AtomicLong clock = new AtomicLong(START);
+        SlidingWindowOrderStats stats = new SlidingWindowOrderStats(clock::get);
+
+        stats.record(OrderStatus.CREATED, 1, 1050);
+        stats.record(OrderStatus.CREATED, 2, 2000);
+        stats.record(OrderStatus.CANCELLED, 1, 1050);
+
+        OrderStatsWindow oneMinute = window(stats.snapshot(), "1m");
+        assertThat(oneMinute.statuses().get("CREATED").orders()).isEqualTo(3);
+        assertThat(oneMinute.statuses().get("CREATED").amount()).isEqualByComparingTo(new BigDecimal("30.50"));
+        assertThat(oneMinute.statuses().get("CANCELLED").orders()).isEqualTo(1);
+        assertThat(oneMinute.ordersPerSecond()).isEqualTo(3 / 60.0);
+    }
+
+    @Test
+    void ordersLeaveEachWindowWhenTheyAgeOut() {
+        AtomicLong clock = new AtomicLong(START);
+        SlidingWindowOrderStats stats = new SlidingWindowOrderStats(clock::get);
+        stats.record(OrderStatus.CREATED, 1, 100);
+
+        clock.addAndGet(90_000);
+        OrderStatsResponse afterNinetySeconds = stats.snapshot();
+        assertThat(window(afterNinetySeconds, "1m").statuses().get("CREATED").orders()).isZero();
+        assertThat(window(afterNinetySeconds, "5m").statuses().get("CREATED").orders()).isEqualTo(1);
+
+        // One hour later the same ring slot is reused for a new second
+        clock.set(START + 3_600_000);
+        stats.record(OrderStatus.CREATED, 1, 200);
+        OrderStatsWindow oneHour = window(stats.snapshot(), "1h");
+        assertThat(oneHour.statuses().get("CREATED").orders()).isEqualTo(1);
+        assertThat(oneHour.statuses().get("CREATED").amount()).isEqualByComparingTo(new BigDecimal("2.00"));
+    }
+
+    @Test
+    void concurrentWritersDoNotLoseUpdates() throws Exception {
+        SlidingWindowOrderStats stats = new SlidingWindowOrderStats(() -> START);
+        int threads = 8;
+        int perThread = 100_000;
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        stats.record(OrderStatus.CREATED, 1, 199);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        OrderStatsWindow.StatusStats created = window(stats.snapshot(), "1m").statuses().get("CREATED");
+        assertThat(created.orders()).isEqualTo((long) threads * perThread);
+        assertThat(created.amount()).isEqualByComparingTo(BigDecimal.valueOf(199L * threads * perThread, 2));
+    }
+
+    private static OrderStatsWindow window(OrderStatsResponse response, String name) {
+        return response.windows().stream()
+                .filter(window -> window.window().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,121 @@
+package com.elk.order.service.impl;
+
+import com.elk.order.config.OrderNumberProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeOrderNumberGeneratorTests {
+
+    private static final long NOW = SnowflakeOrderNumberGenerator.EPOCH + 1_000_000L;
+
+    @Test
+    void generatesUniqueOrderNumbersAcrossThreads() throws Exception {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(7, System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        seen.add(generator.nextOrderNumber());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(seen).hasSize(threads * perThread);
+    }
+
+    @Test
+    void differentNodesNeverCollideOnTheSameMillisecond() {
+        SnowflakeOrderNumberGenerator nodeA = new SnowflakeOrderNumberGenerator(1, () -> NOW);
+        SnowflakeOrderNumberGenerator nodeB = new SnowflakeOrderNumberGenerator(2, () -> NOW);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(nodeA.nextId());
+            ids.add(nodeB.nextId());
+        }
+
+        assertThat(ids).hasSize(2000);
+    }
+
+    @Test
+    void idsKeepIncreasingWhenSequenceOverflowsOrClockGoesBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(3, clock::get);
+
+        long previous = generator.nextId();
+        // More ids than one millisecond's sequence can hold, then the clock steps backwards
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-50);
+            }
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void orderNumbersSortLexicallyInCreationOrder() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(4, clock::get);
+
+        String first = generator.nextOrderNumber();
+        clock.addAndGet(1_000_000_000L);
+        String second = generator.nextOrderNumber();
+
+        assertThat(first).startsWith("ORD-").hasSameSizeAs(second);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeOrderNumberGenerator(SnowflakeOrderNumberGenerator.MAX_NODE_ID + 1, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void requiresAnExplicitNodeIdOutsideDevAndTest() {
+        OrderNumberProperties unset = new OrderNumberProperties(null);
+        MockEnvironment production = new MockEnvironment();
+        production.setActiveProfiles("virtual-threads");
+        MockEnvironment test = new MockEnvironment();
+        test.setActiveProfiles("test");
+
+        assertThatThrownBy(() -> SnowflakeOrderNumberGenerator.resolveNodeId(unset, production))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("order.number.node-id");
+        assertThat(SnowflakeOrderNumberGenerator.resolveNodeId(unset, test))
+                .isBetween(0L, SnowflakeOrderNumberGenerator.MAX_NODE_ID);
+        assertThat(SnowflakeOrderNumberGenerator.resolveNodeId(new OrderNumberProperties(5), production)).isEqualTo(5);
+    }
+}
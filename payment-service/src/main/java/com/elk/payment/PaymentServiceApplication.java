@@ -1,12 +1,16 @@
 package com.elk.payment;
 
+import com.elk.common.money.MoneyConverter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
+// Own entities plus elk-common's auto-applied MoneyConverter
+@EntityScan(basePackageClasses = {PaymentServiceApplication.class, MoneyConverter.class})
 @EnableDiscoveryClient
 @EnableFeignClients(basePackages = "com.elk.payment.client")
 @EnableJpaAuditing
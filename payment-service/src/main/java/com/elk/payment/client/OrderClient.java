@@ -1,15 +1,18 @@
 package com.elk.payment.client;
 
-import com.elk.payment.dto.ApiResponse;
-import com.elk.payment.dto.OrderResponse;
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.http.InternalMediaTypes;
+import com.elk.payment.dto.OrderSummaryResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
+// Internal calls ask for Smile, see InternalMediaTypes
 @FeignClient(name = "ORDER-SERVICE")
 public interface OrderClient {
 
-    @GetMapping("/api/v1/orders/{id}")
-    ApiResponse<OrderResponse> getOrderById(@PathVariable Long id);
+    // Order row only: no items or audit data are loaded or sent
+    @GetMapping(value = "/api/v1/orders/{id}/summary", produces = InternalMediaTypes.SMILE_OR_JSON)
+    ApiResponse<OrderSummaryResponse> getOrderSummary(@PathVariable Long id);
 
-}
\ No newline at end of file
+}
@@ -8,13 +8,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
-import com.elk.payment.dto.ApiResponse;
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.util.RequestPaths;
 import com.elk.payment.dto.PaymentRequest;
 import com.elk.payment.dto.PaymentResponse;
 import com.elk.payment.service.PaymentService;
-import com.elk.payment.util.MapperUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,21 +24,26 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/v1/payments")
 public class PaymentController {
 
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final PaymentService paymentService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(@RequestBody PaymentRequest request) {
         log.info("Received payment request for orderId={}", request.orderId());
 
-        PaymentResponse response = paymentService.processPayment(request);
+        PaymentService.ProcessedPayment processed = paymentService.processPayment(request);
+        PaymentResponse response = processed.payment();
 
-        log.info("Payment processed successfully for orderId={}, paymentId={}",
-                response.orderId(), response.id());
+        log.info("Payment processed successfully for orderId={}, paymentId={}, replayed={}",
+                response.orderId(), response.id(), processed.replayed());
 
+        // A duplicate gets the order's existing payment, like an idempotent replay in order-service
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(MapperUtil.buildAPiResponse(
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(processed.replayed()))
+                .body(ApiResponse.of(
                    HttpStatus.CREATED,
-                   "Payment processed successfully",
+                   processed.replayed() ? "Order already paid" : "Payment processed successfully",
                    response, currentPath()
                 ));
     }
@@ -53,7 +57,7 @@ public class PaymentController {
         log.info("Fetched payment details for paymentId={}", paymentId);
 
         return ResponseEntity.ok(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Payment details fetched successfully",
                         response, currentPath()
@@ -70,7 +74,7 @@ public class PaymentController {
         log.info("Fetched {} payments for orderId={}", responses.size(), orderId);
 
         return ResponseEntity.ok(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Payments fetched successfully",
                         responses, currentPath()
@@ -87,7 +91,7 @@ public class PaymentController {
         log.info("Fetched {} payments with status={}", responses.size(), status);
 
         return ResponseEntity.ok(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "Payments fetched successfully",
                         responses, currentPath()
@@ -104,7 +108,7 @@ public class PaymentController {
         log.info("Fetched {} payments", responses.size());
 
         return ResponseEntity.ok(
-                MapperUtil.buildAPiResponse(
+                ApiResponse.of(
                         HttpStatus.OK,
                         "All payments fetched successfully",
                         responses, currentPath()
@@ -113,7 +117,7 @@ public class PaymentController {
     }
 
     private String currentPath() {
-        return ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+        return RequestPaths.currentUrl();
     }
 
 }
@@ -1,16 +0,0 @@
-package com.elk.payment.dto;
-
-import lombok.Builder;
-import lombok.Data;
-
-import java.time.LocalDateTime;
-
-@Data
-@Builder
-public class ApiResponse<T> {
-    private LocalDateTime timestamp;
-    private int status;
-    private String message;
-    private String path;
-    private T data;
-}
@@ -4,10 +4,9 @@ import com.elk.payment.util.OrderStatus;
 
 import java.math.BigDecimal;
 
-public record OrderResponse(
+// What a payment needs from order-service, read from GET /api/v1/orders/{id}/summary
+public record OrderSummaryResponse(
         Long id,
-        String orderNumber,
-        String customerId,
         OrderStatus status,
         BigDecimal totalAmount
-) {}
\ No newline at end of file
+) {}
@@ -1,9 +1,8 @@
 package com.elk.payment.entity;
 
-import java.math.BigDecimal;
-
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.elk.common.money.Money;
 import com.elk.payment.common.BaseAuditableEntity;
 import com.elk.payment.util.PaymentMethod;
 import com.elk.payment.util.PaymentStatus;
@@ -16,7 +15,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +27,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "payments")
+// At most one successful payment per order, whichever service instance takes it
+@Table(name = "payments", uniqueConstraints =
+        @UniqueConstraint(name = "uk_payments_paid_order_id", columnNames = "paid_order_id"))
 @Getter
 @Setter
 @Builder
@@ -41,7 +46,7 @@ public class Payment extends BaseAuditableEntity {
     private Long orderId;
 
     @Column(nullable = false)
-    private BigDecimal amount;
+    private Money amount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -51,4 +56,15 @@ public class Payment extends BaseAuditableEntity {
     @Column(nullable = false)
     private PaymentStatus status;
 
+    // orderId while the payment is SUCCESS, null otherwise: failed attempts do not take the unique slot
+    @Column(name = "paid_order_id")
+    @Setter(AccessLevel.NONE)
+    private Long paidOrderId;
+
+    @PrePersist
+    @PreUpdate
+    void syncPaidOrderId() {
+        paidOrderId = status == PaymentStatus.SUCCESS ? orderId : null;
+    }
+
 }
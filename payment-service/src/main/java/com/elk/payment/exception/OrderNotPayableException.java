@@ -0,0 +1,7 @@
+package com.elk.payment.exception;
+
+public class OrderNotPayableException extends RuntimeException {
+    public OrderNotPayableException(String message) {
+        super(message);
+    }
+}
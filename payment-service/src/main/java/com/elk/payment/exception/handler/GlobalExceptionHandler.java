@@ -1,8 +1,9 @@
 package com.elk.payment.exception.handler;
 
-import com.elk.payment.dto.ErrorResponse;
+import com.elk.common.dto.ErrorResponse;
+import com.elk.payment.exception.OrderNotPayableException;
+import com.elk.payment.exception.PaymentInProgressException;
 import com.elk.payment.exception.ResourceNotFoundException;
-import com.elk.payment.util.MapperUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +25,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
         log.error("Resource not found: {}, path={}", ex.getMessage(), request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.NOT_FOUND,
                 "NOT_FOUND",
                 ex.getMessage(),
@@ -33,6 +34,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    // Handle payments for cancelled or completed orders (409)
+    @ExceptionHandler(OrderNotPayableException.class)
+    public ResponseEntity<ErrorResponse> handleOrderNotPayable(OrderNotPayableException ex, HttpServletRequest request) {
+        log.warn("Order not payable: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.CONFLICT,
+                "ORDER_NOT_PAYABLE",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    // Handle duplicates that timed out waiting for the payment in progress (409)
+    @ExceptionHandler(PaymentInProgressException.class)
+    public ResponseEntity<ErrorResponse> handlePaymentInProgress(PaymentInProgressException ex, HttpServletRequest request) {
+        log.warn("Payment in progress: {}, path={}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.CONFLICT,
+                "PAYMENT_IN_PROGRESS",
+                ex.getMessage(),
+                request.getRequestURI(),
+                null);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     // Handle @Valid field validation errors (400)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationError(MethodArgumentNotValidException ex, HttpServletRequest request){
@@ -40,7 +67,7 @@ public class GlobalExceptionHandler {
         ex.getBindingResult().getFieldErrors()
                 .forEach(err -> errors.put(err.getField(), err.getDefaultMessage()));
         log.error("Validation failed: {}, path={}", errors, request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "VALIDATION_FAILED",
                 "Input validation failed",
@@ -53,7 +80,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleJsonParsing(HttpMessageNotReadableException ex, HttpServletRequest request){
         log.error("JSON parsing error: {}, path={}", ex.getMessage(), request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "BAD_JSON",
                 "Malformed JSON request",
@@ -70,7 +97,7 @@ public class GlobalExceptionHandler {
                 violations.put(cv.getPropertyPath().toString(), cv.getMessage())
         );
         log.warn("Constraint violation: {}, path={}", violations, request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
                 "CONSTRAINT_VIOLATION",
                 "Invalid request parameters",
@@ -84,7 +111,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneral(Exception ex, HttpServletRequest request){
         log.error("Unexpected error: {}, path={}", ex.getMessage(), request.getRequestURI(), ex);
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.INTERNAL_SERVER_ERROR,
                 "INTERNAL_SERVER_ERROR",
                 ex.getMessage(),
@@ -101,7 +128,7 @@ public class GlobalExceptionHandler {
 
         log.error("Feign client error: {}", ex.getMessage());
 
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(
+        ErrorResponse errorResponse = ErrorResponse.of(
                 HttpStatus.BAD_GATEWAY,
                 "DOWNSTREAM_SERVICE_ERROR",
                 "Order service is unavailable",
@@ -5,6 +5,7 @@ import com.elk.payment.util.PaymentStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
@@ -12,4 +13,7 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     List<Payment> findByStatus(PaymentStatus status);
 
+    // The successful payment of an order, via the unique paid_order_id index
+    Optional<Payment> findByPaidOrderId(Long orderId);
+
 }
\ No newline at end of file
@@ -7,7 +7,11 @@ import com.elk.payment.dto.PaymentResponse;
 
 public interface PaymentService {
 
-    PaymentResponse processPayment(PaymentRequest request);
+    /**
+     * Takes the payment of an order at most once. A request for an order that is already paid
+     * returns the existing payment, flagged as replayed, without charging again.
+     */
+    ProcessedPayment processPayment(PaymentRequest request);
 
     PaymentResponse getPaymentById(Long paymentId);
 
@@ -17,4 +21,6 @@ public interface PaymentService {
 
     List<PaymentResponse> getPaymentsByStatus(String status);
 
+    record ProcessedPayment(PaymentResponse payment, boolean replayed) { }
+
 }
\ No newline at end of file
@@ -1,19 +1,29 @@
 package com.elk.payment.service.impl;
 
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.money.Money;
 import com.elk.payment.client.OrderClient;
 import com.elk.payment.dto.*;
 import com.elk.payment.entity.Payment;
+import com.elk.payment.exception.OrderNotPayableException;
+import com.elk.payment.exception.PaymentInProgressException;
 import com.elk.payment.exception.ResourceNotFoundException;
 import com.elk.payment.repository.PaymentRepository;
 import com.elk.payment.service.PaymentService;
 import com.elk.payment.util.MapperUtil;
 import com.elk.payment.util.PaymentStatus;
+import com.elk.payment.util.StripedLocks;
+import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,38 +31,96 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PaymentServiceImpl implements PaymentService {
 
+    // Enough stripes that unrelated orders rarely share one; a stripe is held for one order-service call
+    static final int LOCK_STRIPES = 1024;
+    // Duplicates wait this long for the payment in progress, then get 409
+    static final Duration LOCK_WAIT = Duration.ofSeconds(10);
+
     private final PaymentRepository paymentRepository;
     private final OrderClient orderClient;
+    private final StripedLocks orderLocks = new StripedLocks(LOCK_STRIPES);
 
     @Override
-    public PaymentResponse processPayment(PaymentRequest request) {
+    public ProcessedPayment processPayment(PaymentRequest request) {
+        Long orderId = request.orderId();
+        log.info("Processing payment for orderId={}", orderId);
+
+        // Fast path for retries and duplicates: the order is already paid, no lock and no order-service call
+        Optional<Payment> paid = paymentRepository.findByPaidOrderId(orderId);
+        if (paid.isPresent()) {
+            return replay(paid.get());
+        }
 
-        log.info("Processing payment for orderId={}", request.orderId());
+        // Serializes payments of the same order in this instance, the unique paid_order_id covers the others
+        Lock lock = orderLocks.get(orderId);
+        acquire(lock, orderId);
+        try {
+            paid = paymentRepository.findByPaidOrderId(orderId);
+            if (paid.isPresent()) {
+                return replay(paid.get());
+            }
+
+            // Call Order Service: the summary is enough to charge, the items are never needed here
+            OrderSummaryResponse order = fetchOrderSummary(orderId);
+
+            if (!order.status().isPayable()) {
+                log.warn("Rejecting payment for orderId={}, status={}", order.id(), order.status());
+                throw new OrderNotPayableException("Order " + order.id() + " is " + order.status() + " and cannot be paid");
+            }
+
+            // Basic simulation: Always SUCCESS
+            Payment payment = Payment.builder()
+                    .orderId(order.id())
+                    .amount(Money.of(order.totalAmount()))
+                    .paymentMethod(request.paymentMethod())
+                    .status(PaymentStatus.SUCCESS)
+                    .build();
+
+            Payment savedPayment;
+            try {
+                savedPayment = paymentRepository.save(payment);
+            } catch (DataIntegrityViolationException ex) {
+                // Paid at the same time through another payment-service instance
+                return replay(paymentRepository.findByPaidOrderId(orderId).orElseThrow(() -> ex));
+            }
+
+            log.info("Payment successful for orderId={}, paymentId={}",
+                    savedPayment.getOrderId(), savedPayment.getId());
+
+            return new ProcessedPayment(MapperUtil.buildPaymentResponse(savedPayment), false);
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        // Call Order Service
-        ApiResponse<OrderResponse> orderResponse =
-                orderClient.getOrderById(request.orderId());
+    private ProcessedPayment replay(Payment payment) {
+        log.info("Order already paid orderId={}, paymentId={}", payment.getOrderId(), payment.getId());
+        return new ProcessedPayment(MapperUtil.buildPaymentResponse(payment), true);
+    }
 
-        OrderResponse order = orderResponse.getData();
+    private static void acquire(Lock lock, Long orderId) {
+        try {
+            if (lock.tryLock(LOCK_WAIT.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        throw new PaymentInProgressException("A payment for order " + orderId + " is still in progress, retry later");
+    }
 
+    private OrderSummaryResponse fetchOrderSummary(Long orderId) {
+        ApiResponse<OrderSummaryResponse> orderResponse;
+        try {
+            orderResponse = orderClient.getOrderSummary(orderId);
+        } catch (FeignException.NotFound ex) {
+            throw new ResourceNotFoundException("Order not found with id: " + orderId);
+        }
+        OrderSummaryResponse order = orderResponse.getData();
         if (order == null) {
             throw new ResourceNotFoundException("Order not found");
         }
-
-        // Basic simulation: Always SUCCESS
-        Payment payment = Payment.builder()
-                .orderId(order.id())
-                .amount(order.totalAmount())
-                .paymentMethod(request.paymentMethod())
-                .status(PaymentStatus.SUCCESS)
-                .build();
-
-        Payment savedPayment = paymentRepository.save(payment);
-
-        log.info("Payment successful for orderId={}, paymentId={}",
-                savedPayment.getOrderId(), savedPayment.getId());
-
-        return MapperUtil.buildPaymentResponse(savedPayment);
+        return order;
     }
 
     @Override
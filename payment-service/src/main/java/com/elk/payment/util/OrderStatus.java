@@ -4,5 +4,10 @@ public enum OrderStatus {
     CREATED,
     CONFIRMED,
     CANCELLED,
-    COMPLETED
+    COMPLETED;
+
+    // Cancelled orders must not be charged, completed ones have already been settled
+    public boolean isPayable() {
+        return this == CREATED || this == CONFIRMED;
+    }
 }
@@ -0,0 +1,35 @@
+package com.elk.payment.util;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of locks shared by hash, so work on the same key is serialized without a lock per key
+ * (nothing to create or evict) and without one global lock. Different keys only contend when they
+ * land on the same stripe. ReentrantLock rather than synchronized, so waiting virtual threads unmount.
+ */
+public class StripedLocks {
+
+    private final Lock[] stripes;
+    private final int mask;
+
+    public StripedLocks(int minimumStripes) {
+        int size = Integer.highestOneBit(Math.max(1, minimumStripes - 1)) << 1;
+        this.stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public Lock get(Object key) {
+        int hash = key.hashCode();
+        // Spread the high bits, sequential ids would otherwise only vary in the low ones
+        hash ^= hash >>> 16;
+        return stripes[hash & mask];
+    }
+
+    public int size() {
+        return stripes.length;
+    }
+}
@@ -0,0 +1,134 @@
+package com.elk.payment.service.impl;
+
+import com.elk.common.dto.ApiResponse;
+import com.elk.payment.client.OrderClient;
+import com.elk.payment.config.AuditConfig;
+import com.elk.payment.dto.OrderSummaryResponse;
+import com.elk.payment.dto.PaymentRequest;
+import com.elk.payment.entity.Payment;
+import com.elk.payment.repository.PaymentRepository;
+import com.elk.payment.service.PaymentService.ProcessedPayment;
+import com.elk.payment.util.OrderStatus;
+import com.elk.payment.util.PaymentMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// Not transactional: every payment commits on its own thread, as it does behind the controller
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PaymentServiceImpl.class, AuditConfig.class})
+class PaymentServiceImplConcurrencyTests {
+
+    @Autowired
+    private PaymentServiceImpl paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockitoBean
+    private OrderClient orderClient;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository.deleteAll();
+        // A few ms per order-service call keeps concurrent duplicates in flight together
+        given(orderClient.getOrderSummary(anyLong())).willAnswer(invocation -> {
+            Long orderId = invocation.getArgument(0);
+            Thread.sleep(2);
+            return ApiResponse.of(HttpStatus.OK, "Order summary fetched successfully",
+                    new OrderSummaryResponse(orderId, OrderStatus.CREATED, new BigDecimal("25.50")), "/api/v1/orders/" + orderId + "/summary");
+        });
+    }
+
+    @Test
+    void concurrentPaymentsOfOneOrderChargeItOnce() throws Exception {
+        List<ProcessedPayment> results = hammer(32, 1, () -> paymentService.processPayment(request(1L)));
+
+        assertThat(paymentRepository.findByOrderId(1L)).hasSize(1);
+        assertThat(results).extracting(result -> result.payment().id()).containsOnly(results.get(0).payment().id());
+        assertThat(results).filteredOn(ProcessedPayment::replayed).hasSize(31);
+        // Duplicates waited on the order's lock and found the payment, order-service was called once
+        verify(orderClient, times(1)).getOrderSummary(1L);
+    }
+
+    @Test
+    void paymentsAcrossInstancesWithoutSharedLocksStillChargeEachOrderOnce() throws Exception {
+        // A second payment-service instance: same database, its own in-process locks
+        PaymentServiceImpl otherInstance = new PaymentServiceImpl(paymentRepository, orderClient);
+        int orders = 50;
+
+        List<ProcessedPayment> results = hammer(16, 40, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            PaymentServiceImpl instance = random.nextBoolean() ? paymentService : otherInstance;
+            return instance.processPayment(request(1L + random.nextInt(orders)));
+        });
+
+        List<Payment> payments = paymentRepository.findAll();
+        assertThat(payments).hasSize(orders);
+        assertThat(payments).extracting(Payment::getOrderId).doesNotHaveDuplicates();
+        // Every caller of an order got that order's one payment back
+        Map<Long, Long> paymentIdByOrder = payments.stream()
+                .collect(Collectors.toMap(Payment::getOrderId, Payment::getId));
+        assertThat(results).allSatisfy(result ->
+                assertThat(result.payment().id()).isEqualTo(paymentIdByOrder.get(result.payment().orderId())));
+        assertThat(results).filteredOn(result -> !result.replayed()).hasSize(orders);
+    }
+
+    // Runs the call repeatedly on every thread, all threads released at once
+    private static List<ProcessedPayment> hammer(int threads, int callsPerThread, Callable<ProcessedPayment> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<ProcessedPayment> results = new ArrayList<>();
+        Map<Integer, Future<List<ProcessedPayment>>> runs = new ConcurrentHashMap<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                runs.put(t, executor.submit(() -> {
+                    start.await();
+                    List<ProcessedPayment> threadResults = new ArrayList<>();
+                    for (int i = 0; i < callsPerThread; i++) {
+                        threadResults.add(call.call());
+                    }
+                    return threadResults;
+                }));
+            }
+            start.countDown();
+            for (Future<List<ProcessedPayment>> run : runs.values()) {
+                results.addAll(run.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private static PaymentRequest request(Long orderId) {
+        return new PaymentRequest(orderId, PaymentMethod.UPI);
+    }
+}
@@ -1,18 +1,21 @@
 package com.elk.product.controller;
 
-import com.elk.product.dto.ApiResponse;
+import com.elk.common.dto.ApiResponse;
+import com.elk.common.util.RequestPaths;
 import com.elk.product.dto.ProductRequest;
 import com.elk.product.dto.ProductResponse;
-import com.elk.product.mapper.MapperUtil;
 import com.elk.product.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @RestController
@@ -25,7 +28,7 @@ public class ProductController {
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponse>> createProduct(@Valid @RequestBody ProductRequest request) {
         ProductResponse productResponse = service.createProduct(request);
-        ApiResponse<ProductResponse> apiResponse = MapperUtil.buildApiResponse(HttpStatus.CREATED, "Product created successfully",
+        ApiResponse<ProductResponse> apiResponse = ApiResponse.of(HttpStatus.CREATED, "Product created successfully",
                 productResponse, getPath());
         return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
     }
@@ -33,32 +36,64 @@ public class ProductController {
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> updateProduct(@PathVariable Long id, @Valid @RequestBody ProductRequest request) {
         ProductResponse productResponse = service.updateProduct(id, request);
-        ApiResponse<ProductResponse> apiResponse = MapperUtil.buildApiResponse(HttpStatus.OK, "Product updated successfully", productResponse, getPath());
+        ApiResponse<ProductResponse> apiResponse = ApiResponse.of(HttpStatus.OK, "Product updated successfully", productResponse, getPath());
         return ResponseEntity.ok(apiResponse);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long id){
+    public ResponseEntity<ApiResponse<ProductResponse>> getProductById(@PathVariable Long id,
+                                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                       WebRequest webRequest){
+        // Conditional GET: compare against updatedAt only, the product is loaded on a mismatch
+        if (ifNoneMatch != null) {
+            String eTag = productETag(id, service.getProductUpdatedAt(id));
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+        }
         ProductResponse productResponse = service.getProductById(id);
-        ApiResponse<ProductResponse> apiResponse = MapperUtil.buildApiResponse(HttpStatus.OK, "Product fetched successfully", productResponse, getPath());
-        return ResponseEntity.ok(apiResponse);
+        ApiResponse<ProductResponse> apiResponse = ApiResponse.of(HttpStatus.OK, "Product fetched successfully", productResponse, getPath());
+        // Vary: the body is negotiated (JSON for clients, Smile for Feign), caches must key on Accept
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        String eTag = productETag(id, productResponse.getUpdatedAt());
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        return response.body(apiResponse);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> deleteProductById(@PathVariable Long id){
         service.deleteProduct(id);
-        ApiResponse<ProductResponse> apiResponse = MapperUtil.buildApiResponse(HttpStatus.OK, "Product deleted successfully", null, getPath());
+        ApiResponse<ProductResponse> apiResponse = ApiResponse.of(HttpStatus.OK, "Product deleted successfully", null, getPath());
         return ResponseEntity.ok(apiResponse);
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<ProductResponse>>> getAllProducts(){
         List<ProductResponse> productResponses = service.getAllProduct();
-        ApiResponse<List<ProductResponse>> apiResponse = MapperUtil.buildApiResponse(HttpStatus.OK, "All product fetched successfully", productResponses, getPath());
+        ApiResponse<List<ProductResponse>> apiResponse = ApiResponse.of(HttpStatus.OK, "All product fetched successfully", productResponses, getPath());
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> getProductsByIds(@RequestParam List<Long> ids){
+        List<ProductResponse> productResponses = service.getProductsByIds(ids);
+        ApiResponse<List<ProductResponse>> apiResponse = ApiResponse.of(HttpStatus.OK, "Products fetched successfully", productResponses, getPath());
         return ResponseEntity.ok(apiResponse);
     }
 
+    // Weak ETag, the JSON and Smile bodies of one product state are equivalent but not byte-identical.
+    // updatedAt is refreshed (microsecond precision) on every update; a row without one gets no ETag
+    private static String productETag(Long id, LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+        return "W/\"" + id + "-" + Long.toString(micros, 36) + "\"";
+    }
+
     private String getPath() {
-        return ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+        return RequestPaths.currentUrl();
     }
 }
@@ -1,8 +1,7 @@
 package com.elk.product.exception.handler;
 
-import com.elk.product.dto.ErrorResponse;
+import com.elk.common.dto.ErrorResponse;
 import com.elk.product.exception.ResourceNotFoundException;
-import com.elk.product.mapper.MapperUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +24,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFoundException(ResourceNotFoundException ex, HttpServletRequest request) {
         log.error("Resource not found: {}, path={}", ex.getMessage(), request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage(), request.getRequestURI(), null);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.NOT_FOUND, "NOT_FOUND", ex.getMessage(), request.getRequestURI(), null);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
@@ -36,7 +35,7 @@ public class GlobalExceptionHandler {
         ex.getBindingResult().getFieldErrors()
                 .forEach(err -> errors.put(err.getField(), err.getDefaultMessage()));
         log.error("Validation failed: {}, path={}", errors, request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Input validation failed", request.getRequestURI(), errors);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Input validation failed", request.getRequestURI(), errors);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -44,7 +43,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleJsonParsing(HttpMessageNotReadableException ex, HttpServletRequest request){
         log.error("JSON parsing error: {}, path={}", ex.getMessage(), request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(HttpStatus.BAD_REQUEST, "BAD_JSON", "Malformed JSON request", request.getRequestURI(), null);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.BAD_REQUEST, "BAD_JSON", "Malformed JSON request", request.getRequestURI(), null);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -57,7 +56,7 @@ public class GlobalExceptionHandler {
         );
 
         log.warn("Constraint violation: {}, path={}", violations, request.getRequestURI());
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(HttpStatus.BAD_REQUEST, "CONSTRAINT_VIOLATION", "Invalid request parameters", request.getRequestURI(), violations);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.BAD_REQUEST, "CONSTRAINT_VIOLATION", "Invalid request parameters", request.getRequestURI(), violations);
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
@@ -66,7 +65,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneral(Exception ex, HttpServletRequest request){
         log.error("Unexpected error: {}, path={}", ex.getMessage(), request.getRequestURI(), ex);
-        ErrorResponse errorResponse = MapperUtil.buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", ex.getMessage(), request.getRequestURI(), null);
+        ErrorResponse errorResponse = ErrorResponse.of(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", ex.getMessage(), request.getRequestURI(), null);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 }
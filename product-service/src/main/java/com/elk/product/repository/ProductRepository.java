@@ -2,6 +2,15 @@ package com.elk.product.repository;
 
 import com.elk.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // Single column read by primary key, used to answer conditional GETs without loading the product
+    @Query("SELECT p.updatedAt FROM Product p WHERE p.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
 }
@@ -3,6 +3,7 @@ package com.elk.product.service;
 import com.elk.product.dto.ProductRequest;
 import com.elk.product.dto.ProductResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ProductService {
@@ -15,5 +16,10 @@ public interface ProductService {
 
     ProductResponse getProductById(Long id);
 
+    // null for a product row without updatedAt, which then gets no ETag
+    LocalDateTime getProductUpdatedAt(Long id);
+
     List<ProductResponse> getAllProduct();
+
+    List<ProductResponse> getProductsByIds(List<Long> ids);
 }
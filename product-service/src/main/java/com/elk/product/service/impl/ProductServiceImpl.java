@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -62,12 +63,30 @@ public class ProductServiceImpl implements ProductService {
         return MapperUtil.toProductResponse(getProduct(id));
     }
 
+    @Override
+    public LocalDateTime getProductUpdatedAt(Long id) {
+        // Empty for an unknown id, but also for a row inserted without updatedAt (outside JPA auditing)
+        return repository.findUpdatedAtById(id).orElseGet(() -> {
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Product not found with id = " + id);
+            }
+            return null;
+        });
+    }
+
     @Override
     public List<ProductResponse> getAllProduct() {
         log.info("Fetching all products");
         return repository.findAll().stream().map(MapperUtil::toProductResponse).toList();
     }
 
+    @Override
+    public List<ProductResponse> getProductsByIds(List<Long> ids) {
+        log.info("Fetching products by ids count={}", ids.size());
+        // Single IN query instead of one lookup per id; ids not found are simply absent from the result
+        return repository.findAllById(ids).stream().map(MapperUtil::toProductResponse).toList();
+    }
+
     public Product getProduct(Long id){
         return repository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Product not found with id = " + id));
     }